@@ -0,0 +1,57 @@
+package careercompassai.CareerCompassAI.benchmark;
+
+import careercompassai.CareerCompassAI.dataset.JobDataset;
+import careercompassai.CareerCompassAI.service.JobSkillService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ DatasetLoadBenchmark
+ * - JobSkillService.loadJobSkills end to end: read, join, and derive the index,
+ *   matcher, canonical roles, role vectors and skill profiles
+ * - source=csv parses both CSVs (snapshots disabled, so nothing is read or written);
+ *   source=snapshot maps the binary snapshot
+ * - Single-shot: one full load per measurement, as at startup or on reload
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class DatasetLoadBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int postings;
+
+    @Param({"csv", "snapshot"})
+    String source;
+
+    private JobSkillService jobSkillService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Path dir = SyntheticData.dataset(postings);
+        jobSkillService = new JobSkillService();
+        ReflectionTestUtils.setField(jobSkillService, "dataDir", dir.toString());
+        ReflectionTestUtils.setField(jobSkillService, "snapshotEnabled", source.equals("snapshot"));
+        if (source.equals("snapshot")) {
+            jobSkillService.loadJobSkills(); // writes the snapshot when it is missing or stale
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        jobSkillService.shutdown();
+    }
+
+    @Benchmark
+    public JobDataset loadJobSkills() {
+        jobSkillService.loadJobSkills();
+        return jobSkillService.getDataset();
+    }
+}
@@ -0,0 +1,93 @@
+package careercompassai.CareerCompassAI.benchmark;
+
+import careercompassai.CareerCompassAI.dataset.JobSkillStore;
+import careercompassai.CareerCompassAI.dataset.RoleClusters;
+import careercompassai.CareerCompassAI.dataset.RoleSkillVectors;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ MatchScoresBenchmark
+ * - Legacy List<Map> + String.split + List.contains scoring (the original
+ *   ResumeController.calculateMatchScores) vs. the TF-IDF role vectors that score resumes now
+ * - Same synthetic postings for both sides
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MatchScoresBenchmark {
+
+    @Param({"10000", "100000"})
+    int postings;
+
+    private List<Map<String, String>> legacyJobs;
+    private List<String> resumeSkills;
+    private RoleSkillVectors vectors;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] titles = new String[500];
+        for (int i = 0; i < titles.length; i++) titles[i] = "role " + i + " engineer";
+        String[] skills = new String[2000];
+        for (int i = 0; i < skills.length; i++) skills[i] = "skill" + i;
+
+        legacyJobs = new ArrayList<>(postings);
+        JobSkillStore.Builder builder = JobSkillStore.builder();
+        for (int i = 0; i < postings; i++) {
+            StringJoiner csv = new StringJoiner(", ");
+            int count = 5 + random.nextInt(20);
+            for (int s = 0; s < count; s++) {
+                // Squared draw skews towards low IDs, like real skill popularity
+                double u = random.nextDouble();
+                csv.add(skills[(int) (u * u * skills.length)]);
+            }
+            String title = titles[random.nextInt(titles.length)];
+
+            Map<String, String> job = new HashMap<>();
+            job.put("role", title);
+            job.put("skills", csv.toString());
+            legacyJobs.add(job);
+            builder.add(title, csv.toString());
+        }
+        JobSkillStore store = builder.build();
+        vectors = RoleSkillVectors.build(store, RoleClusters.build(store));
+
+        resumeSkills = new ArrayList<>();
+        for (int s = 0; s < 15; s++) resumeSkills.add(skills[random.nextInt(200)]);
+    }
+
+    @Benchmark
+    public Map<String, Double> legacy() {
+        Map<String, Double> matchScores = new LinkedHashMap<>();
+        for (Map<String, String> job : legacyJobs) {
+            String role = job.get("role");
+            String skills = job.get("skills");
+            if (skills == null || skills.isBlank()) continue;
+
+            List<String> jobSkills = Arrays.stream(skills.split(","))
+                    .map(String::trim)
+                    .map(String::toLowerCase)
+                    .toList();
+
+            long matches = jobSkills.stream().filter(resumeSkills::contains).count();
+            if (matches > 0) {
+                matchScores.put(role, (matches / (double) jobSkills.size()) * 100);
+            }
+        }
+        return matchScores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(5)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Benchmark
+    public List<RoleSkillVectors.RoleScore> tfidf() {
+        return vectors.topRoles(resumeSkills, 5);
+    }
+}
@@ -0,0 +1,117 @@
+package careercompassai.CareerCompassAI.benchmark;
+
+import careercompassai.CareerCompassAI.dataset.JobDataset;
+import careercompassai.CareerCompassAI.model.ResumeAnalysis;
+import careercompassai.CareerCompassAI.model.SkillGap;
+import careercompassai.CareerCompassAI.service.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ ResumeScoringBenchmark
+ * - Per-request work against a loaded synthetic dataset: top skills for a role,
+ *   skill extraction from resume text, full scoring (match scores + skill gap +
+ *   certifications) and the skill gap alone
+ * - Throughput and sampled latency (p50…p99.99) in one run; add -prof gc for
+ *   allocation rate (the jmh profile does by default)
+ * - Inputs rotate through fixed resumes so no single resume gets branch-trained
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ResumeScoringBenchmark {
+
+    private static final int RESUMES = 256;
+
+    @Param({"10000", "100000", "1000000"})
+    int postings;
+
+    private JobSkillService jobSkillService;
+    private SkillExtractionService skillExtractionService;
+    private SkillGapService skillGapService;
+    private ResumeParsingService resumeParsingService;
+    private ResumeAnalysisService resumeAnalysisService;
+
+    private List<String> resumeTexts;
+    private List<List<String>> resumeSkills;
+    private List<String> roles;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            return next = (next + 1) % RESUMES;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Path dir = SyntheticData.dataset(postings);
+        jobSkillService = new JobSkillService();
+        ReflectionTestUtils.setField(jobSkillService, "dataDir", dir.toString());
+        jobSkillService.loadJobSkills();
+
+        TrendService trendService = new TrendService(jobSkillService, new ObjectMapper());
+        trendService.rebuild();
+        skillGapService = new SkillGapService(trendService);
+        skillExtractionService = new SkillExtractionService(jobSkillService);
+        skillExtractionService.buildDictionary();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        resumeParsingService = new ResumeParsingService(meterRegistry, 500_000, Duration.ofSeconds(20), 1, 16);
+        ResumeCacheService resumeCacheService = new ResumeCacheService(meterRegistry, 256, 20_000_000, Duration.ofHours(1));
+        // History disabled: the benchmark measures analysis, not the write-behind queue
+        AnalysisHistoryService analysisHistoryService =
+                new AnalysisHistoryService(meterRegistry, null, false, 1, 1, Duration.ZERO);
+        resumeAnalysisService = new ResumeAnalysisService(meterRegistry, jobSkillService, skillGapService,
+                skillExtractionService, resumeParsingService, resumeCacheService, analysisHistoryService,
+                DataSize.ofMegabytes(50), 5);
+
+        resumeTexts = SyntheticData.resumes(RESUMES);
+        resumeSkills = SyntheticData.resumeSkills(RESUMES);
+        roles = SyntheticData.roles();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        resumeParsingService.shutdown();
+        jobSkillService.shutdown();
+    }
+
+    @Benchmark
+    public List<String> topSkillsForRole(Cursor cursor) {
+        return jobSkillService.getTopSkillsForRole(roles.get(cursor.advance() % roles.size()));
+    }
+
+    @Benchmark
+    public List<String> extractSkills(Cursor cursor) {
+        return skillExtractionService.extractSkills(resumeTexts.get(cursor.advance()));
+    }
+
+    @Benchmark
+    public ResumeAnalysis score(Cursor cursor) {
+        int i = cursor.advance();
+        return resumeAnalysisService.score(resumeTexts.get(i), resumeSkills.get(i));
+    }
+
+    @Benchmark
+    public SkillGap skillGap(Cursor cursor) {
+        int i = cursor.advance();
+        JobDataset dataset = jobSkillService.getDataset();
+        int role = dataset.roleClusters().canonicalId(roles.get(i % roles.size()));
+        return skillGapService.analyzeSkillGap(dataset, role, resumeSkills.get(i));
+    }
+}
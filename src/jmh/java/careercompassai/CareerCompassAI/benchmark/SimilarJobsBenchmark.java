@@ -0,0 +1,95 @@
+package careercompassai.CareerCompassAI.benchmark;
+
+import careercompassai.CareerCompassAI.dataset.SimilarJobIndex;
+import careercompassai.CareerCompassAI.service.JobSkillService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ SimilarJobsBenchmark
+ * - Top-20 similar postings for a resume: MinHash-LSH lookup at several bands / candidates
+ *   settings vs. the exact full scan, on the loaded synthetic dataset
+ * - Recall@20 against the exact search is measured once per trial and printed with the
+ *   settings (ties at the 20th similarity count as hits), so latency and recall can be
+ *   read side by side
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class SimilarJobsBenchmark {
+
+    private static final int RESUMES = 256;
+    private static final int K = 20;
+
+    @Param({"100000", "1000000"})
+    int postings;
+
+    @Param({"8", "16", "32"})
+    int bands;
+
+    @Param({"1000", "5000"})
+    int candidates;
+
+    private JobSkillService jobSkillService;
+    private SimilarJobIndex index;
+    private List<int[]> queries;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int advance() {
+            return next = (next + 1) % RESUMES;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Path dir = SyntheticData.dataset(postings);
+        jobSkillService = new JobSkillService();
+        ReflectionTestUtils.setField(jobSkillService, "dataDir", dir.toString());
+        jobSkillService.loadJobSkills();
+
+        index = jobSkillService.getDataset().similarJobs();
+        queries = new ArrayList<>(RESUMES);
+        for (List<String> skills : SyntheticData.resumeSkills(RESUMES)) queries.add(index.encode(skills));
+
+        double recall = 0;
+        for (int[] query : queries) {
+            List<SimilarJobIndex.Neighbour> exact = index.exactNearest(query, K);
+            if (exact.isEmpty()) {
+                recall += 1;
+                continue;
+            }
+            double kth = exact.get(exact.size() - 1).similarity();
+            recall += index.nearest(query, K, bands, candidates).stream()
+                    .filter(neighbour -> neighbour.similarity() >= kth).count() / (double) exact.size();
+        }
+        System.out.printf("%nrecall@%d = %.3f (postings=%d, bands=%d, candidates=%d)%n",
+                K, recall / queries.size(), postings, bands, candidates);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        jobSkillService.shutdown();
+    }
+
+    @Benchmark
+    public List<SimilarJobIndex.Neighbour> lsh(Cursor cursor) {
+        return index.nearest(queries.get(cursor.advance()), K, bands, candidates);
+    }
+
+    @Benchmark
+    public List<SimilarJobIndex.Neighbour> exact(Cursor cursor) {
+        return index.exactNearest(queries.get(cursor.advance()), K);
+    }
+}
@@ -0,0 +1,208 @@
+package careercompassai.CareerCompassAI.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+
+/**
+ * ✅ SyntheticData
+ * - Deterministic LinkedIn-shaped datasets (linkedin_job_postings.csv + job_skills.csv)
+ *   and resumes, so every benchmark run sees byte-identical input
+ * - Noisy titles (seniority, levels, specialisations, location suffixes) over ~60 base
+ *   roles, ~20% non-tech postings that ingest filters out, quoted multi-line fields
+ * - Skill popularity is skewed (squared draw) over a curated head plus a long tail
+ * - Files are generated once per scale under target/jmh-data/{postings} and reused
+ */
+final class SyntheticData {
+
+    private static final long SEED = 42;
+    private static final Path ROOT = Path.of("target", "jmh-data");
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final int DAYS = 180;
+    private static final int TAIL_SKILLS = 2_000;
+
+    private static final String[] TECH_ROLES = {
+            "software engineer", "software developer", "backend engineer", "frontend developer",
+            "full stack developer", "java developer", "python developer", ".net developer", "web developer",
+            "mobile developer", "ios developer", "android developer", "data analyst", "data engineer",
+            "data scientist", "business intelligence analyst", "machine learning engineer", "ai engineer",
+            "ml engineer", "cloud engineer", "cloud architect", "devops engineer", "site reliability engineer",
+            "platform engineer", "systems engineer", "network engineer", "security engineer",
+            "cybersecurity analyst", "information security analyst", "penetration tester",
+            "qa engineer", "test automation engineer", "database administrator", "embedded software engineer",
+            "solutions architect", "data architect", "analytics engineer", "big data engineer",
+            "salesforce developer", "sap consultant", "it support analyst", "systems analyst",
+            "security operations analyst", "cloud security engineer", "game developer", "firmware engineer",
+            "computer vision engineer", "nlp engineer", "etl developer", "power bi developer",
+            "technical lead", "engineering manager", "product analyst", "financial analyst",
+            "research scientist", "robotics engineer", "blockchain developer", "ux engineer",
+            "hardware engineer", "infrastructure engineer"
+    };
+
+    private static final String[] OTHER_ROLES = {
+            "registered nurse", "sales manager", "store manager", "retail associate", "truck driver",
+            "customer service representative", "accountant", "teacher", "cashier", "warehouse associate"
+    };
+
+    private static final String[] PREFIXES = {"", "", "", "senior ", "sr. ", "junior ", "lead ", "principal ", "staff "};
+    private static final String[] SUFFIXES = {"", "", "", " ii", " iii", " i", " - backend", " - platform",
+            " (remote)", " - contract", ", level 2"};
+
+    private static final String[] HEAD_SKILLS = {
+            "python", "java", "sql", "aws", "docker", "kubernetes", "react", "javascript", "typescript",
+            "node.js", "spring", "spring boot", "git", "linux", "terraform", "azure", "gcp", "excel",
+            "tableau", "power bi", "machine learning", "deep learning", "pytorch", "tensorflow", "pandas",
+            "spark", "hadoop", "kafka", "airflow", "snowflake", "mongodb", "postgresql", "mysql", "redis",
+            "c++", "c#", ".net", "go", "rust", "scala", "kotlin", "swift", "html", "css", "angular", "vue",
+            "rest api", "graphql", "microservices", "ci/cd", "jenkins", "ansible", "networking",
+            "cybersecurity", "siem", "penetration testing", "incident response", "agile", "scrum", "jira",
+            "communication", "teamwork", "problem solving", "leadership", "data analysis",
+            "data visualization", "statistics", "etl", "data modeling", "system design", "unit testing",
+            "selenium", "cloud computing", "devops", "prompt engineering", "llm", "nlp", "computer vision"
+    };
+
+    private static final String[] FILLER = {
+            "Experienced professional with a track record of delivering projects on time.",
+            "Collaborated with cross-functional teams across several time zones.",
+            "Mentored junior colleagues and led code reviews.",
+            "Improved reporting accuracy and reduced manual effort for stakeholders.",
+            "Bachelor's degree in Computer Science.",
+            "Presented findings to leadership and drove roadmap decisions."
+    };
+
+    private SyntheticData() {
+    }
+
+    /**
+     * ✅ Directory holding both CSVs for the given scale (generated on first use)
+     */
+    static synchronized Path dataset(int postings) {
+        Path dir = ROOT.resolve(Integer.toString(postings));
+        Path jobs = dir.resolve("linkedin_job_postings.csv");
+        Path skills = dir.resolve("job_skills.csv");
+        if (Files.isRegularFile(jobs) && Files.isRegularFile(skills)) return dir;
+
+        try {
+            Files.createDirectories(dir);
+            write(postings, dir);
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not generate synthetic dataset in " + dir, e);
+        }
+    }
+
+    /**
+     * ✅ Plain-text resumes mentioning 5-25 skills each, in sentences with filler text
+     */
+    static List<String> resumes(int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        List<String> resumes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder text = new StringBuilder(2_048);
+            text.append("Candidate ").append(i).append('\n')
+                    .append(pick(random, TECH_ROLES)).append(" with ").append(2 + random.nextInt(12))
+                    .append(" years of experience.\n");
+            int mentions = 5 + random.nextInt(21);
+            for (int s = 0; s < mentions; s++) {
+                text.append("Built production systems using ").append(skill(random))
+                        .append(" and ").append(skill(random)).append(". ")
+                        .append(pick(random, FILLER)).append('\n');
+            }
+            resumes.add(text.toString());
+        }
+        return resumes;
+    }
+
+    /**
+     * ✅ Skill lists drawn like resume extractions (head-heavy), for scoring benchmarks
+     */
+    static List<List<String>> resumeSkills(int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 2);
+        List<List<String>> resumes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<String> skills = new ArrayList<>();
+            int n = 5 + random.nextInt(16);
+            for (int s = 0; s < n; s++) {
+                String skill = HEAD_SKILLS[random.nextInt(HEAD_SKILLS.length)];
+                if (!skills.contains(skill)) skills.add(skill);
+            }
+            resumes.add(skills);
+        }
+        return resumes;
+    }
+
+    /**
+     * ✅ A few base role titles present at every scale
+     */
+    static List<String> roles() {
+        return List.of("software engineer", "data analyst", "devops engineer", "cybersecurity analyst");
+    }
+
+    private static void write(int postings, Path dir) throws IOException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Path jobsTmp = dir.resolve("linkedin_job_postings.csv.tmp");
+        Path skillsTmp = dir.resolve("job_skills.csv.tmp");
+
+        try (BufferedWriter jobs = Files.newBufferedWriter(jobsTmp, StandardCharsets.UTF_8);
+             BufferedWriter skills = Files.newBufferedWriter(skillsTmp, StandardCharsets.UTF_8)) {
+            jobs.write("job_link,last_processed_time,got_summary,got_ner,is_being_worked,job_title,company,"
+                    + "job_location,first_seen,search_city,search_country,search_position,job_level,job_type\n");
+            skills.write("job_link,job_skills\n");
+
+            for (int i = 0; i < postings; i++) {
+                String link = "https://www.linkedin.com/jobs/view/" + (3_000_000_000L + i);
+                String day = FIRST_DAY.plusDays(random.nextInt(DAYS)).toString();
+                String title = random.nextInt(5) == 0
+                        ? pick(random, OTHER_ROLES)
+                        : pick(random, PREFIXES) + pick(random, TECH_ROLES) + pick(random, SUFFIXES);
+
+                jobs.write(link);
+                jobs.write(',');
+                jobs.write(day);
+                jobs.write(" 09:14:38.000+00,t,t,f,");
+                jobs.write(csv(title));
+                jobs.write(",\"Company " + random.nextInt(5_000) + ", Inc.\",\"City " + random.nextInt(300)
+                        + ", State\nUnited States\",");
+                jobs.write(day);
+                jobs.write(",City,United States,Position,Mid senior,Onsite\n");
+
+                // ~10% of postings have no skills row, like the real export
+                if (random.nextInt(10) == 0) continue;
+                StringJoiner list = new StringJoiner(", ");
+                int count = 3 + random.nextInt(20);
+                for (int s = 0; s < count; s++) list.add(skill(random));
+                skills.write(link);
+                skills.write(',');
+                skills.write(csv(list.toString()));
+                skills.write('\n');
+            }
+        }
+        Files.move(skillsTmp, dir.resolve("job_skills.csv"), StandardCopyOption.REPLACE_EXISTING);
+        Files.move(jobsTmp, dir.resolve("linkedin_job_postings.csv"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String skill(SplittableRandom random) {
+        // Squared draw skews towards the head, like real skill popularity
+        double u = random.nextDouble();
+        int rank = (int) (u * u * (HEAD_SKILLS.length + TAIL_SKILLS));
+        return rank < HEAD_SKILLS.length ? HEAD_SKILLS[rank] : "skill " + (rank - HEAD_SKILLS.length);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String csv(String value) {
+        return value.indexOf(',') < 0 && value.indexOf('"') < 0
+                ? value : '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
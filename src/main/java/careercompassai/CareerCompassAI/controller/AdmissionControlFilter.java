@@ -0,0 +1,178 @@
+package careercompassai.CareerCompassAI.controller;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ AdmissionControlFilter
+ * - Guards the expensive endpoints before any work is done (a servlet filter runs before
+ *   multipart parsing, so a refused upload is never read):
+ *   resume = POST /uploadResume and /api/resume/** (Tika + scoring),
+ *   jobs = GET /jobs, /getJobs and /api/jobs/** (Adzuna quota),
+ *   admin = POST /admin/** (a dataset reload rebuilds every index)
+ * - First a per-client (remote address), per-endpoint token bucket, then a global cap on
+ *   expensive requests in flight; a request waits at most queueTimeout for a slot
+ * - Refusals are 429 with Retry-After, so latency stays bounded instead of queueing
+ *   behind an abusive client
+ * - Metrics: http.admission (endpoint, result=admitted|rate_limited|overloaded),
+ *   http.admission.wait, http.admission.in.flight, http.admission.clients
+ */
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    enum Endpoint { RESUME, JOBS, ADMIN }
+
+    private final boolean enabled;
+    private final long queueTimeoutNanos;
+    private final Semaphore slots;
+    private final Map<Endpoint, ClientRateLimiter> limiters = new EnumMap<>(Endpoint.class);
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+
+    public AdmissionControlFilter(MeterRegistry meterRegistry,
+                                  @Value("${careercompass.ratelimit.enabled:true}") boolean enabled,
+                                  @Value("${careercompass.ratelimit.resume.capacity:10}") int resumeCapacity,
+                                  @Value("${careercompass.ratelimit.resume.per-minute:30}") int resumePerMinute,
+                                  @Value("${careercompass.ratelimit.jobs.capacity:20}") int jobsCapacity,
+                                  @Value("${careercompass.ratelimit.jobs.per-minute:60}") int jobsPerMinute,
+                                  @Value("${careercompass.ratelimit.admin.capacity:2}") int adminCapacity,
+                                  @Value("${careercompass.ratelimit.admin.per-minute:4}") int adminPerMinute,
+                                  @Value("${careercompass.ratelimit.max-clients:10000}") int maxClients,
+                                  @Value("${careercompass.ratelimit.max-concurrent:32}") int maxConcurrent,
+                                  @Value("${careercompass.ratelimit.queue-timeout:250ms}") Duration queueTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.slots = new Semaphore(maxConcurrent);
+
+        long now = System.nanoTime();
+        limiters.put(Endpoint.RESUME, new ClientRateLimiter(resumeCapacity, resumePerMinute, maxClients, now));
+        limiters.put(Endpoint.JOBS, new ClientRateLimiter(jobsCapacity, jobsPerMinute, maxClients, now));
+        limiters.put(Endpoint.ADMIN, new ClientRateLimiter(adminCapacity, adminPerMinute, maxClients, now));
+
+        this.waitTimer = Timer.builder("http.admission.wait")
+                .description("Time an admitted expensive request waited for a concurrency slot")
+                .register(meterRegistry);
+        Gauge.builder("http.admission.in.flight", slots, s -> maxConcurrent - s.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("http.admission.clients", limiters,
+                        l -> l.values().stream().mapToInt(ClientRateLimiter::clients).sum())
+                .register(meterRegistry);
+    }
+
+    /**
+     * ✅ Which limited endpoint a request hits, or null for everything else
+     */
+    static Endpoint endpoint(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if ("POST".equals(method) && (path.equals("/uploadResume") || path.startsWith("/api/resume/"))) {
+            return Endpoint.RESUME;
+        }
+        if ("GET".equals(method) && (path.equals("/jobs") || path.equals("/getJobs")
+                || path.equals("/api/jobs") || path.startsWith("/api/jobs/"))) {
+            return Endpoint.JOBS;
+        }
+        if ("POST".equals(method) && path.startsWith("/admin/")) {
+            return Endpoint.ADMIN;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || endpoint(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Endpoint endpoint = endpoint(request);
+
+        long retryNanos = limiters.get(endpoint).tryAcquire(request.getRemoteAddr(), System.nanoTime());
+        if (retryNanos > 0) {
+            reject(response, endpoint, "rate_limited", TimeUnit.NANOSECONDS.toSeconds(retryNanos) + 1,
+                    "Too many requests, slow down");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean admitted;
+        try {
+            admitted = slots.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            reject(response, endpoint, "overloaded", 1, "Server busy, try again shortly");
+            return;
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        count(endpoint, "admitted");
+
+        boolean releaseLater = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Streaming responses keep working after this thread returns; hold the slot until they finish
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                releaseLater = true;
+            }
+        } finally {
+            if (!releaseLater) slots.release();
+        }
+    }
+
+    private void reject(HttpServletResponse response, Endpoint endpoint, String result, long retryAfterSeconds,
+                        String message) throws IOException {
+        count(endpoint, result);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), message);
+    }
+
+    private void count(Endpoint endpoint, String result) {
+        meterRegistry.counter("http.admission", "endpoint", endpoint.name().toLowerCase(), "result", result)
+                .increment();
+    }
+
+    /** onComplete also follows a timeout or error, so the slot is released exactly once. */
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            slots.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
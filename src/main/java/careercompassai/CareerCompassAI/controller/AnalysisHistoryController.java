@@ -0,0 +1,63 @@
+package careercompassai.CareerCompassAI.controller;
+
+import careercompassai.CareerCompassAI.model.HistoryPage;
+import careercompassai.CareerCompassAI.model.RoleCount;
+import careercompassai.CareerCompassAI.model.SkillCount;
+import careercompassai.CareerCompassAI.repository.AnalysisHistoryRepository.SkillKind;
+import careercompassai.CareerCompassAI.service.AnalysisHistoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+
+/**
+ * ✅ AnalysisHistoryController
+ * - Aggregate reports over every recorded resume analysis, a page (0-based, at most 100 rows)
+ *   at a time, largest first
+ * - GET /api/history/skills?kind=missing → the skills resumes lack most often (kind also
+ *   extracted | matched | suggested; role narrows it to one best-fit role)
+ * - GET /api/history/roles → the most frequent best-fit roles with their average score
+ */
+@RestController
+@RequestMapping("/api/history")
+public class AnalysisHistoryController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private AnalysisHistoryService analysisHistoryService;
+
+    @GetMapping("/skills")
+    public HistoryPage<SkillCount> skills(@RequestParam(defaultValue = "missing") String kind,
+                                          @RequestParam(required = false) String role,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size) {
+        SkillKind skillKind;
+        try {
+            skillKind = SkillKind.valueOf(kind.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "kind must be one of extracted, matched, missing, suggested");
+        }
+        checkPage(page, size);
+        return analysisHistoryService.topSkills(skillKind, role, page, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    @GetMapping("/roles")
+    public HistoryPage<RoleCount> roles(@RequestParam(defaultValue = "0") int page,
+                                        @RequestParam(defaultValue = "20") int size) {
+        checkPage(page, size);
+        return analysisHistoryService.topRoles(page, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static void checkPage(int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must be >= 0 and size >= 1");
+        }
+    }
+}
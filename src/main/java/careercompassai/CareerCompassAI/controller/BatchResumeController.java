@@ -0,0 +1,65 @@
+package careercompassai.CareerCompassAI.controller;
+
+import careercompassai.CareerCompassAI.service.BatchResumeService;
+import careercompassai.CareerCompassAI.service.BatchResumeService.BatchFile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ✅ BatchResumeController
+ * - POST /api/resume/batch with one or more "files" parts (resumes and/or zips of resumes)
+ * - Streams one JSON object per line (application/x-ndjson) as each resume finishes
+ */
+@RestController
+@RequestMapping("/api/resume/batch")
+public class BatchResumeController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    private BatchResumeService batchResumeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PostMapping
+    public ResponseEntity<StreamingResponseBody> analyze(@RequestParam("files") List<MultipartFile> files) {
+        List<BatchFile> batch = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (!file.isEmpty()) batch.add(new BatchFile(file.getOriginalFilename(), file::getInputStream));
+        }
+        if (batch.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Please upload at least one resume file!");
+        }
+
+        // Files are read inside the streaming body, while the request (and its multipart parts) is still open
+        StreamingResponseBody body = out -> {
+            try {
+                batchResumeService.analyze(batch, result -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(result));
+                        out.write('\n');
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
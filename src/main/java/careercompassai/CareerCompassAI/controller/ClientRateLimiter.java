@@ -0,0 +1,70 @@
+package careercompassai.CareerCompassAI.controller;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ ClientRateLimiter
+ * - One token bucket per client, each a single AtomicLong: the time at which the bucket
+ *   is full again (GCRA form of a token bucket), so taking a token is one CAS, no lock
+ * - capacity tokens of burst, refilled at perMinute; a refused call is told how long
+ *   until the next token, for Retry-After
+ * - A bucket that has refilled completely is the same as a new one, so those are dropped
+ *   once more than maxClients are tracked; if every tracked client is still limited,
+ *   newcomers share one overflow bucket rather than growing the table
+ */
+final class ClientRateLimiter {
+
+    private final long intervalNanos; // refill time of one token
+    private final long burstNanos;    // refill time of the whole bucket
+    private final int maxClients;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    ClientRateLimiter(int capacity, int perMinute, int maxClients, long nowNanos) {
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute);
+        this.burstNanos = intervalNanos * Math.max(1, capacity);
+        this.maxClients = maxClients;
+        this.overflow = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * ✅ 0 when a token was taken, else the nanos until the client's next token
+     */
+    long tryAcquire(String client, long nowNanos) {
+        AtomicLong bucket = buckets.get(client);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) sweep(nowNanos);
+            bucket = buckets.size() >= maxClients
+                    ? overflow
+                    : buckets.computeIfAbsent(client, c -> new AtomicLong(nowNanos));
+        }
+
+        while (true) {
+            long fullAt = bucket.get();
+            long next = (fullAt - nowNanos > 0 ? fullAt : nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) return wait;
+            if (bucket.compareAndSet(fullAt, next)) return 0;
+        }
+    }
+
+    int clients() {
+        return buckets.size();
+    }
+
+    /**
+     * Drop buckets that are full again; one sweeper at a time, others carry on.
+     */
+    private void sweep(long nowNanos) {
+        if (!sweeping.compareAndSet(false, true)) return;
+        try {
+            buckets.values().removeIf(bucket -> bucket.get() - nowNanos <= 0);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
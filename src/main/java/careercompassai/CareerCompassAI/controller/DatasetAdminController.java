@@ -0,0 +1,57 @@
+package careercompassai.CareerCompassAI.controller;
+
+import careercompassai.CareerCompassAI.dataset.JobDataset;
+import careercompassai.CareerCompassAI.service.JobSkillService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ✅ DatasetAdminController
+ * - GET  /admin/dataset        → version and size of the published dataset
+ * - POST /admin/dataset/reload → start a background reload (202) and return at once; poll
+ *   GET /admin/dataset for the new version. Off (403) unless careercompass.admin.reload-enabled,
+ *   and rate limited by AdmissionControlFilter
+ */
+@RestController
+@RequestMapping("/admin/dataset")
+public class DatasetAdminController {
+
+    @Autowired
+    private JobSkillService jobSkillService;
+
+    @Value("${careercompass.admin.reload-enabled:false}")
+    private boolean reloadEnabled;
+
+    @GetMapping
+    public Map<String, Object> status() {
+        return describe(jobSkillService.getDataset());
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<Map<String, Object>> reload() {
+        if (!reloadEnabled) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Dataset reload is disabled");
+        }
+        // Concurrent reloads share one rebuild; no request thread waits for it
+        jobSkillService.reload();
+        return ResponseEntity.accepted().body(describe(jobSkillService.getDataset()));
+    }
+
+    private static Map<String, Object> describe(JobDataset dataset) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", dataset.version());
+        body.put("loadedAt", dataset.loadedAt().toString());
+        body.put("jobs", dataset.store().size());
+        body.put("roles", dataset.index().roleCount());
+        body.put("canonicalRoles", dataset.roleClusters().size());
+        body.put("skills", dataset.store().getSkills().size());
+        return body;
+    }
+}
@@ -0,0 +1,81 @@
+package careercompassai.CareerCompassAI.controller;
+
+import careercompassai.CareerCompassAI.model.JobListing;
+import careercompassai.CareerCompassAI.model.RoleJobs;
+import careercompassai.CareerCompassAI.service.AdzunaJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * ✅ JobApiController
+ * - JSON twin of /jobs and /getJobs, backed by the same cached Adzuna client
+ * - The ETag is the version of the cache entry the listings came from: a client polling
+ *   an unchanged role gets 304 and nothing is hashed or serialized. Mock listings get none
+ */
+@RestController
+@RequestMapping("/api/jobs")
+public class JobApiController {
+
+    private static final int MAX_LIMIT = 50;
+    private static final int TRENDING_LIMIT = 3;
+
+    @Autowired
+    private AdzunaJobService adzunaJobService;
+
+    @GetMapping
+    public ResponseEntity<List<JobListing>> jobs(@RequestParam String role,
+                                                 @RequestParam(defaultValue = "10") int limit,
+                                                 WebRequest request) {
+        if (role.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Please enter a job role.");
+        }
+        int capped = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<JobListing> jobs = adzunaJobService.fetchJobs(role.trim(), capped);
+        return conditional(request, adzunaJobService.version(role, capped, jobs), jobs);
+    }
+
+    /**
+     * ✅ Listings for the trending roles shown on /jobs
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<RoleJobs>> trending(WebRequest request) {
+        Map<String, List<JobListing>> jobsByRole = adzunaJobService.fetchJobs(JobController.TRENDING_ROLES, TRENDING_LIMIT);
+        List<RoleJobs> trending = new ArrayList<>(jobsByRole.size());
+        StringJoiner versions = new StringJoiner("-");
+        boolean versioned = true;
+        for (Map.Entry<String, List<JobListing>> entry : jobsByRole.entrySet()) {
+            trending.add(new RoleJobs(entry.getKey(), entry.getValue()));
+            String version = adzunaJobService.version(entry.getKey(), TRENDING_LIMIT, entry.getValue());
+            if (version == null) versioned = false;
+            else versions.add(version);
+        }
+        return conditional(request, versioned ? versions.toString() : null, trending);
+    }
+
+    /**
+     * ✅ 304 when the client holds this version; a null version (mock listings) is sent uncached
+     */
+    private static <T> ResponseEntity<T> conditional(WebRequest request, String version, T body) {
+        if (version == null) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(body);
+        }
+        String etag = "W/\"" + version + "\"";
+        if (request.checkNotModified(etag)) {
+            return null; // 304 already written
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+}
@@ -0,0 +1,162 @@
+package careercompassai.CareerCompassAI.controller;
+
+import careercompassai.CareerCompassAI.model.ResumeAnalysis;
+import careercompassai.CareerCompassAI.model.SimilarJob;
+import careercompassai.CareerCompassAI.service.JobSkillService;
+import careercompassai.CareerCompassAI.service.ResumeAnalysisService;
+import careercompassai.CareerCompassAI.service.ResumeUploadStream;
+import careercompassai.CareerCompassAI.service.SimilarJobService;
+import careercompassai.CareerCompassAI.service.TrendService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.tika.exception.TikaException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * ✅ ResumeApiController
+ * - JSON twin of /uploadResume for integrations: same analysis, no template rendering
+ * - POST /api/resume/analyze answers with the analysis plus an ETag and the URL it can be
+ *   re-fetched from (GET /api/resume/analysis/{sha256}) while the resume stays cached
+ * - An analysis only changes with the dataset or trends, so the ETag is the resume hash
+ *   plus both versions and a matching If-None-Match is answered 304 without scoring
+ * - POST /api/resume/stream takes the document itself as the request body (no multipart):
+ *   an oversized Content-Length is refused before reading, and the body is sniffed, hashed
+ *   and parsed as it arrives, so large uploads never sit in memory or a temp file
+ * - POST /api/resume/similar-jobs lists the dataset's postings closest to the resume's skills
+ */
+@RestController
+@RequestMapping("/api/resume")
+public class ResumeApiController {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    @Autowired
+    private ResumeAnalysisService resumeAnalysisService;
+
+    @Autowired
+    private JobSkillService jobSkillService;
+
+    @Autowired
+    private TrendService trendService;
+
+    @Autowired
+    private SimilarJobService similarJobService;
+
+    @PostMapping("/analyze")
+    public ResponseEntity<ResumeAnalysis> analyze(@RequestParam("file") MultipartFile file)
+            throws IOException, TikaException {
+        if (file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Please upload a resume file!");
+        }
+
+        // The multipart part is already spooled to disk: it is hashed first so a resume seen before
+        // skips Tika, and only a miss is streamed into the parser (never copied onto the heap)
+        String versions = versions();
+        return analyzed(versions, resumeAnalysisService.analyze(file));
+    }
+
+    /**
+     * ✅ Same as /analyze with the raw document as the body (Content-Type is not trusted, the bytes are sniffed)
+     */
+    @PostMapping("/stream")
+    public ResponseEntity<ResumeAnalysis> stream(HttpServletRequest request) throws IOException, TikaException {
+        long length = request.getContentLengthLong();
+        if (length == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Please upload a resume file!");
+        }
+        if (length > resumeAnalysisService.maxUploadBytes()) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "Resume is too large");
+        }
+        String versions = versions();
+        return analyzed(versions, resumeAnalysisService.analyze(request.getInputStream()));
+    }
+
+    /**
+     * ✅ The postings most like the uploaded resume, most similar first; more bands (max 32)
+     * or candidates raise recall at some latency
+     */
+    @PostMapping("/similar-jobs")
+    public List<SimilarJob> similarJobs(@RequestParam("file") MultipartFile file,
+                                        @RequestParam(required = false) Integer limit,
+                                        @RequestParam(required = false) Integer bands,
+                                        @RequestParam(required = false) Integer candidates)
+            throws IOException, TikaException {
+        if (file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Please upload a resume file!");
+        }
+        if ((limit != null && limit < 1) || (bands != null && bands < 1) || (candidates != null && candidates < 1)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit, bands and candidates must be positive");
+        }
+
+        ResumeAnalysisService.KeyedExtraction upload = resumeAnalysisService.extract(file);
+        return similarJobService.similarJobs(upload.extracted().skills(), limit, bands, candidates);
+    }
+
+    /**
+     * ✅ Analysis of a previously uploaded resume (404 once it has left the resume cache)
+     */
+    @GetMapping("/analysis/{key}")
+    public ResponseEntity<ResumeAnalysis> analysis(@PathVariable String key, WebRequest request) {
+        if (!SHA256_HEX.matcher(key).matches()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String etag = etag(key);
+        if (request.checkNotModified(etag)) {
+            return null; // 304 already written
+        }
+        ResumeAnalysis analysis = resumeAnalysisService.analyzeCached(key);
+        if (analysis == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(analysis);
+    }
+
+    @ExceptionHandler(ResumeUploadStream.RejectedException.class)
+    public ResponseEntity<Map<String, String>> rejected(ResumeUploadStream.RejectedException e) {
+        HttpStatus status = switch (e.reason()) {
+            case EMPTY -> HttpStatus.BAD_REQUEST;
+            case UNSUPPORTED_TYPE -> HttpStatus.UNSUPPORTED_MEDIA_TYPE;
+            case TOO_LARGE -> HttpStatus.PAYLOAD_TOO_LARGE;
+        };
+        return ResponseEntity.status(status).body(Map.of("error", e.getMessage()));
+    }
+
+    /**
+     * ✅ Versions are read before analyzing: a reload landing mid-analysis only makes the ETag stale, never wrong
+     */
+    private ResponseEntity<ResumeAnalysis> analyzed(String versions, ResumeAnalysisService.KeyedAnalysis analyzed) {
+        return ResponseEntity.ok()
+                .eTag(etag(analyzed.key(), versions))
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.CONTENT_LOCATION, "/api/resume/analysis/" + analyzed.key())
+                .body(analyzed.analysis());
+    }
+
+    private String etag(String key) {
+        return etag(key, versions());
+    }
+
+    private static String etag(String key, String versions) {
+        return "W/\"" + key + "-" + versions + "\"";
+    }
+
+    private String versions() {
+        return jobSkillService.getDataset().version() + "." + trendService.snapshot().version();
+    }
+}
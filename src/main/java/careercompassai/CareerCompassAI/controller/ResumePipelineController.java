@@ -0,0 +1,86 @@
+package careercompassai.CareerCompassAI.controller;
+
+import careercompassai.CareerCompassAI.model.PipelineJobStatus;
+import careercompassai.CareerCompassAI.service.ResumePipelineService;
+import careercompassai.CareerCompassAI.service.ResumePipelineService.PipelineJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * ✅ ResumePipelineController
+ * - POST a resume, get a job ID back straight away (202)
+ * - Poll /api/resume/jobs/{id} or subscribe to /api/resume/jobs/{id}/events (SSE)
+ */
+@RestController
+@RequestMapping("/api/resume/jobs")
+public class ResumePipelineController {
+
+    private static final long SSE_TIMEOUT_MILLIS = 60_000;
+
+    @Autowired
+    private ResumePipelineService resumePipelineService;
+
+    @PostMapping
+    public ResponseEntity<?> submit(@RequestParam("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Please upload a resume file!"));
+        }
+
+        // Copy now: the multipart temp file is deleted when this request ends
+        PipelineJob job = resumePipelineService.submit(file.getBytes());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/resume/jobs/" + job.getId()))
+                .body(toStatus(job));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PipelineJobStatus> status(@PathVariable String id) {
+        PipelineJob job = resumePipelineService.get(id);
+        return job == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(toStatus(job));
+    }
+
+    @GetMapping("/{id}/events")
+    public ResponseEntity<SseEmitter> events(@PathVariable String id) {
+        PipelineJob job = resumePipelineService.get(id);
+        if (job == null) return ResponseEntity.notFound().build();
+
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        sendStatus(emitter, job);
+        Runnable unsubscribe = job.onUpdate(updated -> sendStatus(emitter, updated));
+        // Stop delivering once the stream is over, however it ended
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return ResponseEntity.ok(emitter);
+    }
+
+    @ExceptionHandler(ResumePipelineService.PipelineBusyException.class)
+    public ResponseEntity<Map<String, String>> busy(ResumePipelineService.PipelineBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of("error", e.getMessage()));
+    }
+
+    private static void sendStatus(SseEmitter emitter, PipelineJob job) {
+        try {
+            emitter.send(SseEmitter.event().name(job.getStage().name().toLowerCase()).data(toStatus(job)));
+            if (job.isFinished()) emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or emitter already completed; nothing left to deliver
+        }
+    }
+
+    private static PipelineJobStatus toStatus(PipelineJob job) {
+        return new PipelineJobStatus(job.getId(), job.getStage().name(), job.getCreatedAt(),
+                job.getResult(), job.getError());
+    }
+}
@@ -1,31 +1,96 @@
 package careercompassai.CareerCompassAI.controller;
 
+import careercompassai.CareerCompassAI.model.SkillTrend;
+import careercompassai.CareerCompassAI.service.TrendService;
+import careercompassai.CareerCompassAI.service.TrendService.TrendSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Controller
 public class TrendController {
 
+    @Autowired
+    private TrendService trendService;
+
     @GetMapping("/trends")
     public String showTrends(Model model) {
-        try {
-            // Path where your JSON file is located
-            String jsonPath = "src/main/resources/static/data/trends.json";
-            
-            // Read file content
-            String trendsJson = new String(Files.readAllBytes(Paths.get(jsonPath)));
-
-            // Add JSON to model (for Thymeleaf to access)
-            model.addAttribute("trends", trendsJson);
-
-            return "trends"; // Loads templates/trends.html
-        } catch (Exception e) {
-            e.printStackTrace();
-            model.addAttribute("error", "⚠️ Error loading trends data");
-            return "error";
+        // Top titles as JSON, straight from the in-memory snapshot
+        model.addAttribute("trends", new String(trendService.snapshot().titlesJson(), StandardCharsets.UTF_8));
+        return "trends"; // Loads templates/trends.html
+    }
+
+    /**
+     * ✅ Title → count map the trends chart fetches (same shape as the old static file)
+     */
+    @GetMapping("/data/trends.json")
+    public ResponseEntity<byte[]> trendsJson(WebRequest request) {
+        TrendSnapshot snapshot = trendService.snapshot();
+        return precomputed(request, snapshot.titlesJson(), snapshot.titlesEtag());
+    }
+
+    /**
+     * ✅ Top titles and skills with counts and error bounds
+     */
+    @GetMapping("/api/trends")
+    public ResponseEntity<byte[]> trends(WebRequest request) {
+        TrendSnapshot snapshot = trendService.snapshot();
+        return precomputed(request, snapshot.json(), snapshot.etag());
+    }
+
+    /**
+     * ✅ Top movers: skills growing fastest in the last recentDays vs the baselineDays before
+     */
+    @GetMapping("/api/trends/rising")
+    public ResponseEntity<List<SkillTrend>> risingSkills(@RequestParam(defaultValue = "7") int recentDays,
+                                                         @RequestParam(defaultValue = "28") int baselineDays,
+                                                         @RequestParam(defaultValue = "10") int limit) {
+        checkWindows(recentDays, baselineDays);
+        if (limit < 1) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be >= 1");
+        return ResponseEntity.ok(trendService.risingSkills(recentDays, baselineDays, Math.min(limit, 100)));
+    }
+
+    /**
+     * ✅ Growth rate of one skill over the same windows
+     */
+    @GetMapping("/api/trends/skills/{skill}")
+    public ResponseEntity<SkillTrend> skillTrend(@PathVariable String skill,
+                                                 @RequestParam(defaultValue = "7") int recentDays,
+                                                 @RequestParam(defaultValue = "28") int baselineDays) {
+        checkWindows(recentDays, baselineDays);
+        SkillTrend trend = trendService.skillTrend(skill, recentDays, baselineDays);
+        return trend == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(trend);
+    }
+
+    /** Both windows positive, the recent one shorter, and together no longer than the rings hold. */
+    private void checkWindows(int recentDays, int baselineDays) {
+        int maxDays = trendService.maxWindowDays();
+        if (recentDays < 1 || baselineDays <= recentDays || recentDays + baselineDays > maxDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "recentDays must be >= 1, baselineDays > recentDays, and together at most " + maxDays);
+        }
+    }
+
+    private static ResponseEntity<byte[]> precomputed(WebRequest request, byte[] json, String etag) {
+        if (request.checkNotModified(etag)) {
+            return null; // 304 already written
         }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
     }
 }
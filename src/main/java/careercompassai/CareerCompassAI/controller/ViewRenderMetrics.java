@@ -0,0 +1,59 @@
+package careercompassai.CareerCompassAI.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ ViewRenderMetrics
+ * - Times Thymeleaf rendering on its own (view.render, tagged by view), so page latency
+ *   in http.server.requests can be split into controller work vs. template work
+ * - postHandle runs right before the view renders and afterCompletion right after it
+ */
+@Configuration
+public class ViewRenderMetrics implements WebMvcConfigurer, HandlerInterceptor {
+
+    private static final String START = ViewRenderMetrics.class.getName() + ".start";
+    private static final String VIEW = ViewRenderMetrics.class.getName() + ".view";
+
+    private final MeterRegistry meterRegistry;
+
+    public ViewRenderMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(this);
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView != null && modelAndView.getViewName() != null) {
+            request.setAttribute(VIEW, modelAndView.getViewName());
+            request.setAttribute(START, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(START) instanceof Long start && request.getAttribute(VIEW) instanceof String view) {
+            Timer.builder("view.render")
+                    .description("Time to render a server-side template")
+                    .tag("view", view)
+                    .tag("outcome", ex == null ? "success" : "error")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * ✅ CsvChunk
+ * - Cursor over the records of one memory-mapped slice of a CSV file
+ * - Quoted fields may span lines; the slice always starts and ends on a record boundary
+ * - Fields are only decoded into Strings when {@link #field(int)} is called
+ */
+public final class CsvChunk {
+
+    private static final byte QUOTE = '"';
+    private static final byte COMMA = ',';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final ByteBuffer buffer;
+    private final int limit;
+
+    private int position;
+    private int fieldCount;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] quoted = new boolean[16];
+    private byte[] scratch = new byte[256];
+    private long rows;
+
+    CsvChunk(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * ✅ Advance to the next record; returns false once the chunk is exhausted
+     */
+    public boolean next() {
+        if (position >= limit) return false;
+
+        fieldCount = 0;
+        int fieldStart = position;
+        boolean inQuote = false;
+        boolean sawQuote = false;
+        int i = position;
+
+        while (i < limit) {
+            byte b = buffer.get(i);
+            if (b == QUOTE) {
+                inQuote = !inQuote;
+                sawQuote = true;
+            } else if (!inQuote && b == COMMA) {
+                addField(fieldStart, i, sawQuote);
+                fieldStart = i + 1;
+                sawQuote = false;
+            } else if (!inQuote && b == LF) {
+                break;
+            }
+            i++;
+        }
+
+        int recordEnd = i;
+        if (recordEnd > fieldStart && buffer.get(recordEnd - 1) == CR) recordEnd--;
+        addField(fieldStart, recordEnd, sawQuote);
+
+        position = i + 1;
+        rows++;
+        return true;
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * ✅ Decode a field of the current record: quote characters dropped, whitespace trimmed
+     */
+    public String field(int index) {
+        if (index >= fieldCount) return "";
+
+        int start = starts[index];
+        int end = ends[index];
+        while (start < end && isSpace(buffer.get(start))) start++;
+        while (end > start && isSpace(buffer.get(end - 1))) end--;
+        int length = end - start;
+        if (length <= 0) return "";
+
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        if (quoted[index]) {
+            int n = 0;
+            for (int i = start; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b != QUOTE) scratch[n++] = b;
+            }
+            // Re-trim: whitespace may have been hiding inside the quotes
+            int from = 0;
+            while (from < n && isSpace(scratch[from])) from++;
+            while (n > from && isSpace(scratch[n - 1])) n--;
+            return new String(scratch, from, n - from, StandardCharsets.UTF_8);
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    long rowsRead() {
+        return rows;
+    }
+
+    private void addField(int start, int end, boolean sawQuote) {
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, fieldCount * 2);
+            ends = Arrays.copyOf(ends, fieldCount * 2);
+            quoted = Arrays.copyOf(quoted, fieldCount * 2);
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        quoted[fieldCount] = sawQuote;
+        fieldCount++;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == CR || b == LF;
+    }
+}
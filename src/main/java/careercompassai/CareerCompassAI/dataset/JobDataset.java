@@ -0,0 +1,33 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.time.Instant;
+
+/**
+ * ✅ JobDataset
+ * - One immutable, published version of the job data: the store and everything
+ *   derived from it, built together and swapped in as a unit
+ * - Read it once per request and use that instance throughout, so a reload in
+ *   the middle of an analysis cannot mix two versions
+ */
+public record JobDataset(
+        long version,
+        Instant loadedAt,
+        JobSkillStore store,
+        JobSkillIndex index,
+        RoleClusters roleClusters,
+        RoleSkillVectors roleVectors,
+        RoleSkillProfiles roleProfiles,
+        SimilarJobIndex similarJobs
+) {
+
+    /**
+     * ✅ Derive the index, canonical roles and their vectors / skill profiles and the
+     * similar-job index for a freshly loaded store
+     */
+    public static JobDataset of(long version, JobSkillStore store) {
+        RoleClusters clusters = RoleClusters.build(store);
+        return new JobDataset(version, Instant.now(), store, JobSkillIndex.build(store),
+                clusters, RoleSkillVectors.build(store, clusters),
+                RoleSkillProfiles.build(store, clusters), SimilarJobIndex.build(store));
+    }
+}
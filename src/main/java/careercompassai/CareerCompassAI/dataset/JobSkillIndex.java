@@ -0,0 +1,178 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ JobSkillIndex
+ * - Immutable role → skill-frequency index built once at load time
+ * - Skills are interned through a {@link StringDictionary}; each role keeps its
+ *   skill IDs ranked by how many postings mention them
+ * - Queries touch the distinct roles only, never the individual postings
+ */
+public final class JobSkillIndex {
+
+    private static final int MAX_CACHED_QUERIES = 1024;
+
+    private final StringDictionary skills;
+    private final String[] roles;
+    private final int[] roleJobCounts;
+    private final int[][] roleSkillIds;    // ranked by frequency, descending
+    private final int[][] roleSkillCounts; // parallel to roleSkillIds
+
+    private final Map<String, List<String>> topSkillsCache = new ConcurrentHashMap<>();
+
+    private JobSkillIndex(StringDictionary skills, String[] roles, int[] roleJobCounts,
+                          int[][] roleSkillIds, int[][] roleSkillCounts) {
+        this.skills = skills;
+        this.roles = roles;
+        this.roleJobCounts = roleJobCounts;
+        this.roleSkillIds = roleSkillIds;
+        this.roleSkillCounts = roleSkillCounts;
+    }
+
+    public StringDictionary getSkills() {
+        return skills;
+    }
+
+    public int roleCount() {
+        return roles.length;
+    }
+
+    public String role(int roleId) {
+        return roles[roleId];
+    }
+
+    public int jobCount(int roleId) {
+        return roleJobCounts[roleId];
+    }
+
+    /**
+     * ✅ Top-N skills by posting frequency across every role whose title contains the query
+     */
+    public List<String> topSkillsForRole(String query, int limit) {
+        String key = query.toLowerCase() + '\u0000' + limit;
+        List<String> cached = topSkillsCache.get(key);
+        if (cached != null) return cached;
+
+        List<String> result = computeTopSkills(query.toLowerCase(), limit);
+        if (topSkillsCache.size() < MAX_CACHED_QUERIES) {
+            topSkillsCache.put(key, result);
+        }
+        return result;
+    }
+
+    private List<String> computeTopSkills(String query, int limit) {
+        List<Integer> matchedRoles = new ArrayList<>();
+        for (int r = 0; r < roles.length; r++) {
+            if (roles[r].contains(query)) matchedRoles.add(r);
+        }
+        if (matchedRoles.isEmpty()) return List.of();
+
+        // Single role: its table is already ranked
+        if (matchedRoles.size() == 1) {
+            int[] ids = roleSkillIds[matchedRoles.get(0)];
+            List<String> top = new ArrayList<>(Math.min(limit, ids.length));
+            for (int i = 0; i < ids.length && i < limit; i++) {
+                top.add(skills.name(ids[i]));
+            }
+            return List.copyOf(top);
+        }
+
+        // Several roles: merge their frequency tables, then rank
+        Map<Integer, int[]> merged = new HashMap<>();
+        for (int r : matchedRoles) {
+            int[] ids = roleSkillIds[r];
+            int[] counts = roleSkillCounts[r];
+            for (int i = 0; i < ids.length; i++) {
+                merged.computeIfAbsent(ids[i], k -> new int[1])[0] += counts[i];
+            }
+        }
+
+        int[] ids = new int[merged.size()];
+        int[] counts = new int[merged.size()];
+        int n = 0;
+        for (Map.Entry<Integer, int[]> e : merged.entrySet()) {
+            ids[n] = e.getKey();
+            counts[n] = e.getValue()[0];
+            n++;
+        }
+        rankByFrequency(ids, counts);
+
+        List<String> top = new ArrayList<>(Math.min(limit, n));
+        for (int i = 0; i < n && i < limit; i++) {
+            top.add(skills.name(ids[i]));
+        }
+        return List.copyOf(top);
+    }
+
+    /**
+     * Sort both arrays by count descending, breaking ties on skill ID so the
+     * first-seen skill wins (matches the old "first distinct" ordering).
+     */
+    static void rankByFrequency(int[] ids, int[] counts) {
+        long[] packed = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            // High word: inverted count (so ascending sort = descending count); low word: ID
+            packed[i] = ((long) (Integer.MAX_VALUE - counts[i]) << 32) | ids[i];
+        }
+        Arrays.sort(packed);
+        for (int i = 0; i < packed.length; i++) {
+            counts[i] = Integer.MAX_VALUE - (int) (packed[i] >>> 32);
+            ids[i] = (int) packed[i];
+        }
+    }
+
+    /**
+     * ✅ Build the index from the columnar store; role IDs are shared with the store
+     */
+    public static JobSkillIndex build(JobSkillStore store) {
+        StringDictionary roleNames = store.getRoles();
+        int roleCount = roleNames.size();
+        String[] roles = new String[roleCount];
+        for (int r = 0; r < roleCount; r++) roles[r] = roleNames.name(r);
+
+        // Group job indices by role (counting sort)
+        int[] roleJobCounts = new int[roleCount];
+        for (int job = 0; job < store.size(); job++) roleJobCounts[store.roleId(job)]++;
+        int[] roleStart = new int[roleCount + 1];
+        for (int r = 0; r < roleCount; r++) roleStart[r + 1] = roleStart[r] + roleJobCounts[r];
+        int[] jobsByRole = new int[store.size()];
+        int[] cursor = Arrays.copyOf(roleStart, roleCount);
+        for (int job = 0; job < store.size(); job++) jobsByRole[cursor[store.roleId(job)]++] = job;
+
+        // One vocabulary-sized scratch counter reused across roles
+        int[] scratch = new int[store.getSkills().size()];
+        int[] touched = new int[store.getSkills().size()];
+        int[][] roleSkillIds = new int[roleCount][];
+        int[][] roleSkillCounts = new int[roleCount][];
+
+        for (int r = 0; r < roleCount; r++) {
+            int distinct = 0;
+            for (int i = roleStart[r]; i < roleStart[r + 1]; i++) {
+                int job = jobsByRole[i];
+                for (int k = store.skillStart(job); k < store.skillEnd(job); k++) {
+                    int skill = store.skillIdAt(k);
+                    if (scratch[skill]++ == 0) touched[distinct++] = skill;
+                }
+            }
+
+            int[] ids = new int[distinct];
+            int[] counts = new int[distinct];
+            for (int i = 0; i < distinct; i++) {
+                ids[i] = touched[i];
+                counts[i] = scratch[touched[i]];
+                scratch[touched[i]] = 0;
+            }
+            rankByFrequency(ids, counts);
+            roleSkillIds[r] = ids;
+            roleSkillCounts[r] = counts;
+        }
+
+        return new JobSkillIndex(store.getSkills(), roles, roleJobCounts, roleSkillIds, roleSkillCounts);
+    }
+}
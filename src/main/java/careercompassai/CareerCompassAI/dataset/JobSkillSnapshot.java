@@ -0,0 +1,252 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * ✅ JobSkillSnapshot
+ * - Versioned binary image of a {@link JobSkillStore}, written once after a CSV parse
+ * - Header carries the ingest algorithm it was built with and the source-file fingerprints
+ *   it was built from; a CRC32C trailer covers every byte before it. A snapshot whose
+ *   algorithm differs from the running build's is stale even when the CSVs are unchanged
+ * - Loading memory-maps the file and bulk-copies the int columns, so a boot
+ *   that can reuse it skips CSV parsing entirely
+ *
+ * Layout (big-endian):
+ * <pre>
+ *   int    magic "CCJS"
+ *   int    format version
+ *   utf    ingest algorithm (e.g. canonicalizer settings)
+ *   int    fingerprint count, then per source: utf name, long size, long lastModified
+ *   int    role count, then utf role names
+ *   int    skill count, then utf skill names
+ *   int    skill alias count, then per alias: utf spelling, int skill ID
+ *   int    skill lookup-key count, then per key: utf key, int skill ID
+ *   int    job count, int skill-ID count
+ *   int[]  jobRoles, int[] postedDays, int[] skillOffsets (jobs + 1), int[] skillIds
+ *   int    link byte count, int[] linkOffsets (jobs + 1), byte[] link UTF-8 bytes
+ *   long   CRC32C of everything above
+ * </pre>
+ */
+public final class JobSkillSnapshot {
+
+    private static final int MAGIC = 0x43434A53; // "CCJS"
+    private static final int VERSION = 6; // 2: postedDays column, 3: skill aliases, 4: job links, 5: lookup keys, 6: algorithm
+
+    private JobSkillSnapshot() {
+    }
+
+    /**
+     * ✅ Identifies the exact source file a snapshot was built from
+     */
+    public record SourceFingerprint(String name, long size, long lastModified) {
+
+        public static SourceFingerprint of(Path file) throws IOException {
+            return new SourceFingerprint(file.getFileName().toString(),
+                    Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        }
+    }
+
+    /**
+     * ✅ Write the store atomically (temp file + move) so readers never see a partial snapshot
+     */
+    public static void write(Path target, JobSkillStore store, String algorithm, List<SourceFingerprint> sources)
+            throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (!Files.isDirectory(parent)) Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+
+        try {
+            CRC32C crc = new CRC32C();
+            try (OutputStream file = Files.newOutputStream(temp);
+                 BufferedOutputStream buffered = new BufferedOutputStream(file, 1 << 16);
+                 CheckedOutputStream checked = new CheckedOutputStream(buffered, crc);
+                 DataOutputStream out = new DataOutputStream(checked)) {
+
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeString(out, algorithm);
+
+                out.writeInt(sources.size());
+                for (SourceFingerprint source : sources) {
+                    writeString(out, source.name());
+                    out.writeLong(source.size());
+                    out.writeLong(source.lastModified());
+                }
+
+                writeDictionary(out, store.getRoles());
+                writeDictionary(out, store.getSkills());
+                writeAliases(out, store.getSkills());
+                writeLookupKeys(out, store.getSkills());
+
+                int[] jobRoles = store.jobRolesColumn();
+                int[] skillOffsets = store.skillOffsetsColumn();
+                int[] skillIds = store.skillIdsColumn();
+                out.writeInt(jobRoles.length);
+                out.writeInt(skillIds.length);
+                writeInts(out, jobRoles);
+                writeInts(out, store.postedDaysColumn());
+                writeInts(out, skillOffsets);
+                writeInts(out, skillIds);
+                byte[] linkBytes = store.linkBytesColumn();
+                out.writeInt(linkBytes.length);
+                writeInts(out, store.linkOffsetsColumn());
+                out.write(linkBytes);
+
+                out.flush();
+                // Trailer is written past the checksummed stream
+                new DataOutputStream(buffered).writeLong(crc.getValue());
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * ✅ Load a snapshot if it exists, is intact, and matches the given algorithm and sources.
+     * Returns null when the caller should fall back to parsing the CSVs.
+     * An empty source list accepts any fingerprints (snapshot-only deployments).
+     */
+    public static JobSkillStore read(Path snapshot, String algorithm, List<SourceFingerprint> sources)
+            throws IOException {
+        if (!Files.isRegularFile(snapshot)) return null;
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 16 || size > Integer.MAX_VALUE) return null;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) return null;
+            if (!readString(buffer).equals(algorithm)) return null;
+
+            int sourceCount = buffer.getInt();
+            List<SourceFingerprint> recorded = new ArrayList<>(sourceCount);
+            for (int i = 0; i < sourceCount; i++) {
+                recorded.add(new SourceFingerprint(readString(buffer), buffer.getLong(), buffer.getLong()));
+            }
+            if (!sources.isEmpty() && !recorded.equals(sources)) return null;
+
+            // Fingerprints match: verify the checksum before trusting the payload
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.duplicate().position(0).limit((int) size - Long.BYTES));
+            if (crc.getValue() != buffer.getLong((int) size - Long.BYTES)) return null;
+
+            StringDictionary roles = readDictionary(buffer);
+            StringDictionary skills = readDictionary(buffer);
+            readAliases(buffer, skills);
+            readLookupKeys(buffer, skills);
+
+            int jobs = buffer.getInt();
+            int skillTotal = buffer.getInt();
+            int[] jobRoles = readInts(buffer, jobs);
+            int[] postedDays = readInts(buffer, jobs);
+            int[] skillOffsets = readInts(buffer, jobs + 1);
+            int[] skillIds = readInts(buffer, skillTotal);
+            byte[] linkBytes = new byte[buffer.getInt()];
+            int[] linkOffsets = readInts(buffer, jobs + 1);
+            buffer.get(linkBytes);
+
+            return new JobSkillStore(roles, skills, jobRoles, postedDays, skillOffsets, skillIds,
+                    linkOffsets, linkBytes);
+        } catch (RuntimeException e) {
+            // Truncated or malformed file (BufferUnderflow, bad lengths): treat as stale
+            return null;
+        }
+    }
+
+    private static void writeDictionary(DataOutputStream out, StringDictionary dictionary) throws IOException {
+        out.writeInt(dictionary.size());
+        for (int i = 0; i < dictionary.size(); i++) {
+            writeString(out, dictionary.name(i));
+        }
+    }
+
+    private static StringDictionary readDictionary(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        StringDictionary dictionary = new StringDictionary();
+        for (int i = 0; i < count; i++) {
+            dictionary.intern(readString(buffer));
+        }
+        return dictionary;
+    }
+
+    private static void writeAliases(DataOutputStream out, StringDictionary dictionary) throws IOException {
+        Map<String, Integer> aliases = dictionary.aliases();
+        out.writeInt(aliases.size());
+        for (Map.Entry<String, Integer> alias : aliases.entrySet()) {
+            writeString(out, alias.getKey());
+            out.writeInt(alias.getValue());
+        }
+    }
+
+    private static void readAliases(ByteBuffer buffer, StringDictionary dictionary) {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            dictionary.alias(readString(buffer), buffer.getInt());
+        }
+    }
+
+    private static void writeLookupKeys(DataOutputStream out, StringDictionary dictionary) throws IOException {
+        Map<String, Integer> keys = dictionary.lookupKeys();
+        out.writeInt(keys.size());
+        for (Map.Entry<String, Integer> key : keys.entrySet()) {
+            writeString(out, key.getKey());
+            out.writeInt(key.getValue());
+        }
+    }
+
+    private static void readLookupKeys(ByteBuffer buffer, StringDictionary dictionary) {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            dictionary.lookupKey(readString(buffer), buffer.getInt());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(64 * 1024);
+        IntBuffer ints = chunk.asIntBuffer();
+        for (int i = 0; i < values.length; ) {
+            int n = Math.min(ints.capacity(), values.length - i);
+            ints.clear();
+            ints.put(values, i, n);
+            out.write(chunk.array(), 0, n * Integer.BYTES);
+            i += n;
+        }
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+}
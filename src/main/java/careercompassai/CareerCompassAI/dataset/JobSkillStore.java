@@ -0,0 +1,258 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ✅ JobSkillStore
+ * - Columnar, dictionary-encoded view of every linked job posting
+ * - One int role ID and one posting day per job, plus a flattened array of
+ *   sorted skill IDs addressed through per-job offsets (CSR layout)
+ * - Posting links are kept the same way: UTF-8 bytes of every link back to back,
+ *   decoded only for the jobs a response actually shows
+ * - Callers walk jobs by index or through {@link #forEachJob}; nothing is
+ *   materialized per posting
+ */
+public final class JobSkillStore {
+
+    /** postedDay() of a job whose posting date is not known. */
+    public static final int UNKNOWN_DAY = Integer.MIN_VALUE;
+
+    private final StringDictionary roles;
+    private final StringDictionary skills;
+    private final int[] jobRoles;
+    private final int[] postedDays; // epoch day, or UNKNOWN_DAY
+    private final int[] skillOffsets; // length = size() + 1
+    private final int[] skillIds;
+    private final int[] linkOffsets; // length = size() + 1
+    private final byte[] linkBytes;
+
+    JobSkillStore(StringDictionary roles, StringDictionary skills, int[] jobRoles, int[] postedDays,
+                  int[] skillOffsets, int[] skillIds, int[] linkOffsets, byte[] linkBytes) {
+        this.roles = roles;
+        this.skills = skills;
+        this.jobRoles = jobRoles;
+        this.postedDays = postedDays;
+        this.skillOffsets = skillOffsets;
+        this.skillIds = skillIds;
+        this.linkOffsets = linkOffsets;
+        this.linkBytes = linkBytes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * ✅ Receives one job at a time; skillIds[from..to) are that job's skills
+     */
+    @FunctionalInterface
+    public interface JobVisitor {
+        void visit(int job, int roleId, int[] skillIds, int from, int to);
+    }
+
+    public int size() {
+        return jobRoles.length;
+    }
+
+    public boolean isEmpty() {
+        return jobRoles.length == 0;
+    }
+
+    public StringDictionary getRoles() {
+        return roles;
+    }
+
+    public StringDictionary getSkills() {
+        return skills;
+    }
+
+    public int roleId(int job) {
+        return jobRoles[job];
+    }
+
+    public String role(int job) {
+        return roles.name(jobRoles[job]);
+    }
+
+    /**
+     * ✅ Day the job was first seen (LocalDate epoch day), or UNKNOWN_DAY
+     */
+    public int postedDay(int job) {
+        return postedDays[job];
+    }
+
+    /**
+     * ✅ The posting's job_link (LinkedIn URL), or "" when it was added without one
+     */
+    public String link(int job) {
+        return new String(linkBytes, linkOffsets[job], linkOffsets[job + 1] - linkOffsets[job], StandardCharsets.UTF_8);
+    }
+
+    public int skillCount(int job) {
+        return skillOffsets[job + 1] - skillOffsets[job];
+    }
+
+    /**
+     * ✅ Raw access: a job's skills are skillIdAt(skillStart(job) .. skillEnd(job) - 1)
+     */
+    public int skillStart(int job) {
+        return skillOffsets[job];
+    }
+
+    public int skillEnd(int job) {
+        return skillOffsets[job + 1];
+    }
+
+    public int skillIdAt(int position) {
+        return skillIds[position];
+    }
+
+    /**
+     * ✅ Decode one job's skills back into strings (for display / gap analysis)
+     */
+    public List<String> skills(int job) {
+        List<String> names = new ArrayList<>(skillCount(job));
+        for (int i = skillOffsets[job]; i < skillOffsets[job + 1]; i++) {
+            names.add(skills.name(skillIds[i]));
+        }
+        return names;
+    }
+
+    /**
+     * ✅ Number of postings that list each skill, indexed by skill ID
+     */
+    public int[] skillDocumentFrequencies() {
+        int[] frequencies = new int[skills.size()];
+        for (int skillId : skillIds) frequencies[skillId]++;
+        return frequencies;
+    }
+
+    public void forEachJob(JobVisitor visitor) {
+        forEachJob(0, jobRoles.length, visitor);
+    }
+
+    /**
+     * ✅ Visit jobs [fromJob, toJob) — lets callers partition the store across threads
+     */
+    public void forEachJob(int fromJob, int toJob, JobVisitor visitor) {
+        for (int job = fromJob; job < toJob; job++) {
+            visitor.visit(job, jobRoles[job], skillIds, skillOffsets[job], skillOffsets[job + 1]);
+        }
+    }
+
+    // Raw columns, for the binary snapshot only
+    int[] jobRolesColumn() {
+        return jobRoles;
+    }
+
+    int[] postedDaysColumn() {
+        return postedDays;
+    }
+
+    int[] skillOffsetsColumn() {
+        return skillOffsets;
+    }
+
+    int[] skillIdsColumn() {
+        return skillIds;
+    }
+
+    int[] linkOffsetsColumn() {
+        return linkOffsets;
+    }
+
+    byte[] linkBytesColumn() {
+        return linkBytes;
+    }
+
+    /**
+     * ✅ Appends postings column by column; not thread-safe
+     */
+    public static final class Builder {
+
+        private final StringDictionary roles = new StringDictionary();
+        private final StringDictionary skills = new StringDictionary();
+        private int[] jobRoles = new int[1024];
+        private int[] postedDays = new int[1024];
+        private int[] skillOffsets = new int[1025];
+        private int[] skillIds = new int[8192];
+        private int[] linkOffsets = new int[1025];
+        private byte[] linkBytes = new byte[1 << 16];
+        private int jobs;
+        private int skillTotal;
+        private int linkTotal;
+
+        /**
+         * ✅ Add one posting; skillsCsv is the raw comma-separated list
+         */
+        public Builder add(String role, String skillsCsv) {
+            return add(role, skillsCsv, UNKNOWN_DAY);
+        }
+
+        /**
+         * ✅ Add one posting first seen on the given epoch day
+         */
+        public Builder add(String role, String skillsCsv, int postedDay) {
+            return add(role, skillsCsv, postedDay, "");
+        }
+
+        /**
+         * ✅ Add one posting with its job_link
+         */
+        public Builder add(String role, String skillsCsv, int postedDay, String link) {
+            int start = skillTotal;
+            for (String raw : skillsCsv.split(",")) {
+                String skill = raw.trim();
+                if (skill.isEmpty()) continue;
+                if (skillTotal == skillIds.length) {
+                    skillIds = Arrays.copyOf(skillIds, skillIds.length * 2);
+                }
+                skillIds[skillTotal++] = skills.intern(skill);
+            }
+
+            // Sort and de-duplicate this job's skill IDs in place
+            Arrays.sort(skillIds, start, skillTotal);
+            int unique = start;
+            for (int i = start; i < skillTotal; i++) {
+                if (unique == start || skillIds[unique - 1] != skillIds[i]) {
+                    skillIds[unique++] = skillIds[i];
+                }
+            }
+            skillTotal = unique;
+            if (skillTotal == start) return this; // nothing usable
+
+            if (jobs == jobRoles.length) {
+                jobRoles = Arrays.copyOf(jobRoles, jobs * 2);
+                postedDays = Arrays.copyOf(postedDays, jobs * 2);
+                skillOffsets = Arrays.copyOf(skillOffsets, jobs * 2 + 1);
+                linkOffsets = Arrays.copyOf(linkOffsets, jobs * 2 + 1);
+            }
+            byte[] utf8 = link.getBytes(StandardCharsets.UTF_8);
+            if (linkTotal + utf8.length > linkBytes.length) {
+                linkBytes = Arrays.copyOf(linkBytes, Math.max(linkBytes.length * 2, linkTotal + utf8.length));
+            }
+            System.arraycopy(utf8, 0, linkBytes, linkTotal, utf8.length);
+            linkTotal += utf8.length;
+
+            jobRoles[jobs] = roles.intern(role);
+            postedDays[jobs] = postedDay;
+            skillOffsets[jobs + 1] = skillTotal;
+            linkOffsets[jobs + 1] = linkTotal;
+            jobs++;
+            return this;
+        }
+
+        public JobSkillStore build() {
+            return new JobSkillStore(roles, skills,
+                    Arrays.copyOf(jobRoles, jobs),
+                    Arrays.copyOf(postedDays, jobs),
+                    Arrays.copyOf(skillOffsets, jobs + 1),
+                    Arrays.copyOf(skillIds, skillTotal),
+                    Arrays.copyOf(linkOffsets, jobs + 1),
+                    Arrays.copyOf(linkBytes, linkTotal));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * ✅ MappedCsvReader
+ * - Memory-maps a CSV file in record-aligned chunks and parses them on all cores
+ * - A single sequential quote-aware scan finds the chunk boundaries, so quoted
+ *   fields containing newlines are never split across two chunks
+ * - Chunk results are handed to the consumer in file order, with a bounded
+ *   number of chunks in flight to cap memory
+ */
+public final class MappedCsvReader {
+
+    public static final int DEFAULT_CHUNK_SIZE = 32 * 1024 * 1024;
+
+    private static final byte QUOTE = '"';
+    private static final byte LF = '\n';
+
+    private final Path file;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public MappedCsvReader(Path file) {
+        this(file, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public MappedCsvReader(Path file, int chunkSize, int parallelism) {
+        this.file = file;
+        this.chunkSize = chunkSize;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * ✅ Parses one chunk on a worker thread; must not touch shared mutable state
+     */
+    @FunctionalInterface
+    public interface ChunkMapper<T> {
+        T map(CsvChunk chunk);
+    }
+
+    /**
+     * ✅ Throughput of a finished read
+     */
+    public record Stats(long rows, long bytes, long nanos) {
+        public double rowsPerSecond() {
+            return nanos == 0 ? 0 : rows * 1_000_000_000.0 / nanos;
+        }
+
+        public double megabytesPerSecond() {
+            return nanos == 0 ? 0 : (bytes / (1024.0 * 1024.0)) * 1_000_000_000.0 / nanos;
+        }
+    }
+
+    /**
+     * ✅ Read every record after the header row.
+     * The mapper runs in parallel; the consumer runs on the calling thread, in chunk order.
+     */
+    public <T> Stats read(ChunkMapper<T> mapper, Consumer<T> consumer) throws IOException {
+        long startNanos = System.nanoTime();
+        LongAdder rows = new LongAdder();
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "csv-reader-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = skipHeader(channel, size);
+            Deque<Future<T>> inFlight = new ArrayDeque<>();
+
+            while (position < size) {
+                long end = nextBoundary(channel, position, size);
+                MappedByteBuffer slice = channel.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+                inFlight.addLast(workers.submit(() -> {
+                    CsvChunk chunk = new CsvChunk(slice);
+                    T result = mapper.map(chunk);
+                    rows.add(chunk.rowsRead());
+                    return result;
+                }));
+                if (inFlight.size() >= parallelism * 2) {
+                    consumer.accept(await(inFlight.removeFirst()));
+                }
+                position = end;
+            }
+            while (!inFlight.isEmpty()) {
+                consumer.accept(await(inFlight.removeFirst()));
+            }
+            return new Stats(rows.sum(), size, System.nanoTime() - startNanos);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Position just after the first record (the header).
+     */
+    private long skipHeader(FileChannel channel, long size) throws IOException {
+        return findRecordEnd(channel, 0, 0, size);
+    }
+
+    /**
+     * First record boundary at least chunkSize bytes past start (or end of file).
+     */
+    private long nextBoundary(FileChannel channel, long start, long size) throws IOException {
+        return findRecordEnd(channel, start, chunkSize, size);
+    }
+
+    /**
+     * Scan from start, tracking quote state, and return the offset after the first
+     * unquoted newline at or beyond start + minLength. The scan window doubles when
+     * a quoted field runs past it.
+     */
+    private long findRecordEnd(FileChannel channel, long start, long minLength, long size) throws IOException {
+        long window = Math.max(minLength * 2, 64 * 1024);
+        boolean inQuote = false;
+        long scanned = 0;
+
+        while (true) {
+            long length = Math.min(Math.min(window, Integer.MAX_VALUE), size - start);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            for (int i = (int) scanned; i < length; i++) {
+                byte b = buffer.get(i);
+                if (b == QUOTE) {
+                    inQuote = !inQuote;
+                } else if (b == LF && !inQuote && i >= minLength) {
+                    return start + i + 1;
+                }
+            }
+            if (start + length >= size) return size;
+            if (length >= Integer.MAX_VALUE) {
+                throw new IOException("CSV record larger than 2 GB in " + file);
+            }
+            scanned = length;
+            window *= 2;
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading CSV", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) throw io.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        }
+    }
+}
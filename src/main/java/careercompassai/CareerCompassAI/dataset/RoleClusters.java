@@ -0,0 +1,262 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.util.*;
+
+/**
+ * ✅ RoleClusters
+ * - Maps every raw LinkedIn title to a canonical role ID at load time, so
+ *   "Sr. Software Engineer II" and "software engineer - backend" score as one role
+ * - Titles are normalized first (punctuation, abbreviations, seniority and employment
+ *   noise stripped), then grouped by token-set Jaccard similarity
+ * - Grouping is leader-based: normalized titles are visited most-postings first and join
+ *   the most similar existing leader above the threshold, else lead a new role; MinHash
+ *   band buckets (LSH) supply the candidate leaders, so no all-pairs comparison is made
+ * - A canonical role is named after its leader's normalized title
+ */
+public final class RoleClusters {
+
+    static final double DEFAULT_THRESHOLD = 0.6;
+
+    // 16 bands × 2 rows: titles at Jaccard 0.5 share a band with probability ≈ 0.99
+    private static final int BANDS = 16;
+    private static final int ROWS = 2;
+    private static final long[] SEEDS = new long[BANDS * ROWS];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        for (int i = 0; i < SEEDS.length; i++) SEEDS[i] = random.nextLong();
+    }
+
+    private static final Map<String, String> EXPANSIONS = Map.ofEntries(
+            Map.entry("sr", "senior"), Map.entry("snr", "senior"), Map.entry("jr", "junior"),
+            Map.entry("eng", "engineer"), Map.entry("engr", "engineer"), Map.entry("engineering", "engineer"),
+            Map.entry("dev", "developer"), Map.entry("mgr", "manager"), Map.entry("admin", "administrator"),
+            Map.entry("swe", "software engineer"), Map.entry("sde", "software engineer"),
+            Map.entry("ml", "machine learning"), Map.entry("dba", "database administrator")
+    );
+
+    private static final Set<String> NOISE = Set.of(
+            // seniority / level
+            "senior", "junior", "lead", "principal", "staff", "associate", "entry", "level", "mid",
+            "i", "ii", "iii", "iv", "v", "1", "2", "3", "4", "5",
+            // employment type / location
+            "remote", "hybrid", "onsite", "contract", "contractor", "temporary", "temp", "full", "part", "time",
+            "w2", "c2c", "us", "usa"
+    );
+
+    /**
+     * Every posting's skill IDs grouped by canonical role: role r's postings list
+     * skillIds[offsets[r]..offsets[r+1]) between them, one entry per mention
+     */
+    record Mentions(int[] postings, int[] offsets, int[] skillIds) {
+    }
+
+    private final int[] canonicalOfRole;     // raw role ID → canonical ID
+    private final int[] representativeRole;  // canonical ID → its most posted raw role ID
+    private final String[] names;
+    private final Map<String, Integer> byNormalizedTitle;
+
+    private RoleClusters(int[] canonicalOfRole, int[] representativeRole, String[] names,
+                         Map<String, Integer> byNormalizedTitle) {
+        this.canonicalOfRole = canonicalOfRole;
+        this.representativeRole = representativeRole;
+        this.names = names;
+        this.byNormalizedTitle = byNormalizedTitle;
+    }
+
+    public static RoleClusters build(JobSkillStore store) {
+        return build(store, DEFAULT_THRESHOLD);
+    }
+
+    static RoleClusters build(JobSkillStore store, double threshold) {
+        StringDictionary roles = store.getRoles();
+        int[] postings = new int[roles.size()];
+        store.forEachJob((job, roleId, skillIds, from, to) -> postings[roleId]++);
+
+        // Distinct normalized titles, with their posting counts and best raw title
+        StringDictionary titles = new StringDictionary();
+        int[] titleOfRole = new int[roles.size()];
+        List<int[]> titleStats = new ArrayList<>(); // {postings, representative raw role}
+        for (int role = 0; role < roles.size(); role++) {
+            int title = titles.intern(normalize(roles.name(role)));
+            titleOfRole[role] = title;
+            if (title == titleStats.size()) titleStats.add(new int[]{0, role});
+            int[] stats = titleStats.get(title);
+            stats[0] += postings[role];
+            if (postings[role] > postings[stats[1]]) stats[1] = role;
+        }
+
+        Integer[] order = new Integer[titles.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> titleStats.get(a)[0] != titleStats.get(b)[0]
+                ? Integer.compare(titleStats.get(b)[0], titleStats.get(a)[0])
+                : titles.name(a).compareTo(titles.name(b)));
+
+        StringDictionary tokens = new StringDictionary();
+        List<int[]> leaderTokens = new ArrayList<>();
+        List<Map<Long, List<Integer>>> buckets = new ArrayList<>(BANDS);
+        for (int band = 0; band < BANDS; band++) buckets.add(new HashMap<>());
+
+        int[] canonicalOfTitle = new int[titles.size()];
+        List<Integer> representatives = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (int title : order) {
+            int[] tokenSet = tokenIds(titles.name(title), tokens);
+            long[] bands = bandHashes(tokenSet);
+
+            int best = -1;
+            double bestSimilarity = threshold;
+            Set<Integer> seen = new HashSet<>();
+            for (int band = 0; band < BANDS; band++) {
+                for (int leader : buckets.get(band).getOrDefault(bands[band], List.of())) {
+                    if (!seen.add(leader)) continue;
+                    double similarity = jaccard(tokenSet, leaderTokens.get(leader));
+                    // Ties go to the earlier (more posted) leader
+                    if (similarity > bestSimilarity
+                            || (similarity == bestSimilarity && (best < 0 || leader < best))) {
+                        best = leader;
+                        bestSimilarity = similarity;
+                    }
+                }
+            }
+
+            if (best < 0) {
+                best = leaderTokens.size();
+                leaderTokens.add(tokenSet);
+                representatives.add(titleStats.get(title)[1]);
+                names.add(titles.name(title));
+                for (int band = 0; band < BANDS; band++) {
+                    buckets.get(band).computeIfAbsent(bands[band], b -> new ArrayList<>()).add(best);
+                }
+            }
+            canonicalOfTitle[title] = best;
+        }
+
+        int[] canonicalOfRole = new int[roles.size()];
+        for (int role = 0; role < roles.size(); role++) canonicalOfRole[role] = canonicalOfTitle[titleOfRole[role]];
+        Map<String, Integer> byNormalizedTitle = new HashMap<>();
+        for (int title = 0; title < titles.size(); title++) byNormalizedTitle.put(titles.name(title), canonicalOfTitle[title]);
+
+        return new RoleClusters(canonicalOfRole,
+                representatives.stream().mapToInt(Integer::intValue).toArray(),
+                names.toArray(String[]::new), byNormalizedTitle);
+    }
+
+    /**
+     * ✅ Lowercase, split on punctuation, expand abbreviations, drop seniority and
+     * employment noise and repeated tokens; falls back to the plain lowercase title
+     */
+    public static String normalize(String title) {
+        String lower = title.toLowerCase(Locale.ROOT);
+        StringJoiner normalized = new StringJoiner(" ");
+        Set<String> kept = new HashSet<>();
+        for (String raw : lower.split("[^a-z0-9+#]+")) {
+            if (raw.isEmpty()) continue;
+            for (String token : EXPANSIONS.getOrDefault(raw, raw).split(" ")) {
+                if (!NOISE.contains(token) && kept.add(token)) normalized.add(token);
+            }
+        }
+        return kept.isEmpty() ? lower.trim() : normalized.toString();
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * ✅ Canonical role of a raw role ID from the store
+     */
+    public int canonicalId(int roleId) {
+        return canonicalOfRole[roleId];
+    }
+
+    /**
+     * ✅ Canonical role of any title seen at load time (raw or normalized), else MISSING
+     */
+    public int canonicalId(String title) {
+        Integer id = byNormalizedTitle.get(normalize(title));
+        return id == null ? StringDictionary.MISSING : id;
+    }
+
+    public String name(int canonicalId) {
+        return names[canonicalId];
+    }
+
+    /**
+     * ✅ The raw role ID with the most postings in this canonical role
+     */
+    public int representativeRole(int canonicalId) {
+        return representativeRole[canonicalId];
+    }
+
+    /**
+     * Counting sort of the store's skill mentions by canonical role (two passes, no boxing).
+     */
+    Mentions mentions(JobSkillStore store) {
+        int roles = size();
+        int[] postings = new int[roles];
+        int[] offsets = new int[roles + 1];
+        store.forEachJob((job, roleId, skillIds, from, to) -> {
+            int role = canonicalOfRole[roleId];
+            postings[role]++;
+            offsets[role + 1] += to - from;
+        });
+        for (int role = 0; role < roles; role++) offsets[role + 1] += offsets[role];
+
+        int[] mentions = new int[offsets[roles]];
+        int[] cursor = Arrays.copyOf(offsets, roles);
+        store.forEachJob((job, roleId, skillIds, from, to) -> {
+            int role = canonicalOfRole[roleId];
+            System.arraycopy(skillIds, from, mentions, cursor[role], to - from);
+            cursor[role] += to - from;
+        });
+        return new Mentions(postings, offsets, mentions);
+    }
+
+    private static int[] tokenIds(String normalizedTitle, StringDictionary tokens) {
+        String[] parts = normalizedTitle.split(" ");
+        int[] ids = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) ids[i] = tokens.intern(parts[i]);
+        Arrays.sort(ids);
+        return ids; // tokens are already distinct after normalize()
+    }
+
+    /** MinHash over the token set, folded into one hash per band. */
+    private static long[] bandHashes(int[] tokenSet) {
+        long[] bands = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long folded = band;
+            for (int row = 0; row < ROWS; row++) {
+                long seed = SEEDS[band * ROWS + row];
+                long min = Long.MAX_VALUE;
+                for (int token : tokenSet) min = Math.min(min, mix(token ^ seed));
+                folded = folded * 31 + min;
+            }
+            bands[band] = folded;
+        }
+        return bands;
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double jaccard(int[] a, int[] b) {
+        int i = 0, j = 0, shared = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared / (double) (a.length + b.length - shared);
+    }
+}
@@ -0,0 +1,134 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ✅ RoleSkillProfiles
+ * - The required skills of every canonical role, computed once at load time: skills
+ *   listed by at least MIN_SHARE of the role's postings, most demanded first
+ *   (never fewer than MIN_SKILLS when the role has them, never more than MAX_SKILLS)
+ * - Stored sparse (CSR: per-role offsets into one array of skill IDs), so memory follows
+ *   the profiles, not roles × vocabulary
+ * - A resume is encoded as its sorted, distinct skill IDs; a gap looks each required skill
+ *   up in it, reading matched and missing back in demand order without touching the vocabulary
+ */
+public final class RoleSkillProfiles {
+
+    static final double MIN_SHARE = 0.2;
+    static final int MIN_SKILLS = 5;
+    static final int MAX_SKILLS = 15;
+
+    /**
+     * ✅ Required skills the resume has / lacks, both most demanded first
+     */
+    public record Gap(List<String> matched, List<String> missing) {
+    }
+
+    private static final Gap NO_PROFILE = new Gap(List.of(), List.of());
+
+    private final StringDictionary skills;
+    private final int[] offsets;  // per role; length = roles + 1
+    private final int[] skillIds; // required skill IDs per role, most demanded first
+
+    private RoleSkillProfiles(StringDictionary skills, int[] offsets, int[] skillIds) {
+        this.skills = skills;
+        this.offsets = offsets;
+        this.skillIds = skillIds;
+    }
+
+    public static RoleSkillProfiles build(JobSkillStore store, RoleClusters clusters) {
+        int skillCount = store.getSkills().size();
+        int roles = clusters.size();
+        RoleClusters.Mentions grouped = clusters.mentions(store);
+
+        // Build-time scratch only: one counter per skill, reused across roles
+        int[] counts = new int[skillCount];
+        int[] touched = new int[skillCount];
+        int[] offsets = new int[roles + 1];
+        int[] skillIds = new int[Math.max(16, roles)]; // grown by doubling
+        int size = 0;
+        for (int role = 0; role < roles; role++) {
+            int distinct = 0;
+            for (int m = grouped.offsets()[role]; m < grouped.offsets()[role + 1]; m++) {
+                int skill = grouped.skillIds()[m];
+                if (counts[skill]++ == 0) touched[distinct++] = skill;
+            }
+
+            // Sort key: mentions descending, then skill ID ascending
+            long[] byDemand = new long[distinct];
+            for (int i = 0; i < distinct; i++) {
+                int skill = touched[i];
+                byDemand[i] = ((long) counts[skill] << 32) | (0xFFFFFFFFL & ~skill);
+                counts[skill] = 0;
+            }
+            Arrays.sort(byDemand);
+
+            int minMentions = (int) Math.ceil(MIN_SHARE * grouped.postings()[role]);
+            int limit = Math.min(distinct, MAX_SKILLS);
+            if (size + limit > skillIds.length) skillIds = Arrays.copyOf(skillIds, Math.max(size + limit, 2 * skillIds.length));
+            int n = 0;
+            for (int i = distinct - 1; i >= 0 && n < limit; i--) {
+                int mentions = (int) (byDemand[i] >>> 32);
+                if (mentions < minMentions && n >= MIN_SKILLS) break;
+                skillIds[size + n++] = ~(int) byDemand[i];
+            }
+            size += n;
+            offsets[role + 1] = size;
+        }
+        return new RoleSkillProfiles(store.getSkills(), offsets, Arrays.copyOf(skillIds, size));
+    }
+
+    /**
+     * ✅ Sorted, distinct skill IDs of the given skills (any merged spelling); unknown skills are ignored
+     */
+    public int[] encode(List<String> resumeSkills) {
+        int[] ids = new int[resumeSkills.size()];
+        int n = 0;
+        for (String skill : resumeSkills) {
+            int id = SkillCanonicalizer.lookup(skills, skill);
+            if (id != StringDictionary.MISSING) ids[n++] = id;
+        }
+        Arrays.sort(ids, 0, n);
+        int unique = 0;
+        for (int i = 0; i < n; i++) {
+            if (unique == 0 || ids[unique - 1] != ids[i]) ids[unique++] = ids[i];
+        }
+        return Arrays.copyOf(ids, unique);
+    }
+
+    /**
+     * ✅ Whether an encoded resume lists the skill (false for skills outside the dataset);
+     * the skill is looked up as encode() does
+     */
+    public boolean contains(int[] resume, String skill) {
+        int id = SkillCanonicalizer.lookup(skills, skill);
+        return id != StringDictionary.MISSING && Arrays.binarySearch(resume, id) >= 0;
+    }
+
+    /**
+     * ✅ Required skills of a canonical role, most demanded first
+     */
+    public List<String> requiredSkills(int roleId) {
+        List<String> names = new ArrayList<>(offsets[roleId + 1] - offsets[roleId]);
+        for (int k = offsets[roleId]; k < offsets[roleId + 1]; k++) names.add(skills.name(skillIds[k]));
+        return names;
+    }
+
+    /**
+     * ✅ Skill gap of an encoded resume against a canonical role (empty for MISSING)
+     */
+    public Gap gap(int roleId, int[] resume) {
+        if (roleId == StringDictionary.MISSING) return NO_PROFILE;
+
+        // Both lists come out in demand order: at most MAX_SKILLS binary searches in the resume
+        List<String> matched = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (int k = offsets[roleId]; k < offsets[roleId + 1]; k++) {
+            int skill = skillIds[k];
+            (Arrays.binarySearch(resume, skill) >= 0 ? matched : missing).add(skills.name(skill));
+        }
+        return new Gap(matched, missing);
+    }
+}
@@ -0,0 +1,225 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ✅ RoleSkillVectors
+ * - TF-IDF profile of every canonical role (see RoleClusters), built once at load time
+ * - IDF per skill = ln((1 + jobs) / (1 + postings listing it)) + 1, so ubiquitous
+ *   skills ("communication") count less than distinctive ones ("terraform")
+ * - A role's centroid weight for a skill = share of its postings listing the skill × IDF,
+ *   pruned to its strongest skills and L2-normalized
+ * - Stored inverted (skill → roles, weights) in flat primitive arrays: scoring a resume
+ *   only touches the roles sharing one of its skills, then keeps a bounded top-K by cosine
+ */
+public final class RoleSkillVectors {
+
+    /** Centroid skills kept per role; the long tail only adds noise and postings to scan. */
+    static final int MAX_SKILLS_PER_ROLE = 64;
+
+    /**
+     * ✅ Canonical role and its cosine similarity (0-100) to the resume
+     */
+    public record RoleScore(int roleId, double score) {
+    }
+
+    private final JobSkillStore store;
+    private final float[] idf;            // per skill ID
+    private final int[] skillOffsets;     // per skill, into roleIds/weights; length = skills + 1
+    private final int[] roleIds;
+    private final float[] weights;
+    private final ThreadLocal<Scratch> scratch;
+
+    private RoleSkillVectors(JobSkillStore store, int roles, float[] idf, int[] skillOffsets, int[] roleIds,
+                             float[] weights) {
+        this.store = store;
+        this.idf = idf;
+        this.skillOffsets = skillOffsets;
+        this.roleIds = roleIds;
+        this.weights = weights;
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(roles));
+    }
+
+    public static RoleSkillVectors build(JobSkillStore store, RoleClusters clusters) {
+        return build(store, clusters, MAX_SKILLS_PER_ROLE);
+    }
+
+    static RoleSkillVectors build(JobSkillStore store, RoleClusters clusters, int maxSkillsPerRole) {
+        int jobs = store.size();
+        int skills = store.getSkills().size();
+        int roles = clusters.size();
+
+        float[] idf = new float[skills];
+        int[] documentFrequencies = store.skillDocumentFrequencies();
+        for (int skill = 0; skill < skills; skill++) {
+            idf[skill] = (float) (Math.log((1.0 + jobs) / (1.0 + documentFrequencies[skill])) + 1.0);
+        }
+
+        RoleClusters.Mentions grouped = clusters.mentions(store);
+        int[] roleJobs = grouped.postings();
+        int[] roleOffsets = grouped.offsets();
+        int[] mentions = grouped.skillIds();
+
+        // Per role: count mentions in a dense scratch, weight, prune, normalize
+        int[] counts = new int[skills];
+        int[] touched = new int[skills];
+        int[] centroidOffsets = new int[roles + 1];
+        int[] centroidSkills = new int[Math.min(mentions.length, roles * maxSkillsPerRole)];
+        float[] centroidWeights = new float[centroidSkills.length];
+        int nnz = 0;
+        for (int role = 0; role < roles; role++) {
+            int distinct = 0;
+            for (int m = roleOffsets[role]; m < roleOffsets[role + 1]; m++) {
+                if (counts[mentions[m]]++ == 0) touched[distinct++] = mentions[m];
+            }
+
+            int kept = Math.min(distinct, maxSkillsPerRole);
+            long[] ranked = new long[distinct];
+            for (int i = 0; i < distinct; i++) {
+                int skill = touched[i];
+                float weight = counts[skill] / (float) roleJobs[role] * idf[skill];
+                // Sort key: weight descending (non-negative floats order like their bits), then skill ID
+                ranked[i] = ((long) Float.floatToIntBits(weight) << 32) | (0xFFFFFFFFL & ~skill);
+                counts[skill] = 0;
+            }
+            Arrays.sort(ranked);
+
+            double norm = 0;
+            for (int i = distinct - kept; i < distinct; i++) {
+                float weight = Float.intBitsToFloat((int) (ranked[i] >>> 32));
+                norm += weight * weight;
+            }
+            float scale = norm == 0 ? 0f : (float) (1 / Math.sqrt(norm));
+            for (int i = distinct - 1; i >= distinct - kept; i--) {
+                centroidSkills[nnz] = ~(int) ranked[i];
+                centroidWeights[nnz] = Float.intBitsToFloat((int) (ranked[i] >>> 32)) * scale;
+                nnz++;
+            }
+            centroidOffsets[role + 1] = nnz;
+        }
+
+        // Invert role-major centroids into skill-major postings
+        int[] skillOffsets = new int[skills + 1];
+        for (int i = 0; i < nnz; i++) skillOffsets[centroidSkills[i] + 1]++;
+        for (int skill = 0; skill < skills; skill++) skillOffsets[skill + 1] += skillOffsets[skill];
+        int[] roleIds = new int[nnz];
+        float[] weights = new float[nnz];
+        int[] fill = Arrays.copyOf(skillOffsets, skills);
+        for (int role = 0; role < roles; role++) {
+            for (int i = centroidOffsets[role]; i < centroidOffsets[role + 1]; i++) {
+                int slot = fill[centroidSkills[i]]++;
+                roleIds[slot] = role;
+                weights[slot] = centroidWeights[i];
+            }
+        }
+        return new RoleSkillVectors(store, roles, idf, skillOffsets, roleIds, weights);
+    }
+
+    /**
+     * ✅ IDF weight of a skill ID
+     */
+    public float idf(int skillId) {
+        return idf[skillId];
+    }
+
+    /**
+     * ✅ Top-K canonical role IDs by cosine similarity (0-100) between the resume's IDF-weighted skills
+     * and each role centroid, best first; unknown skills are ignored, any merged spelling matches
+     */
+    public List<RoleScore> topRoles(List<String> skills, int k) {
+        StringDictionary dictionary = store.getSkills();
+        int[] ids = new int[skills.size()];
+        int n = 0;
+        for (String skill : skills) {
+            int id = SkillCanonicalizer.lookup(dictionary, skill);
+            if (id != StringDictionary.MISSING) ids[n++] = id;
+        }
+        Arrays.sort(ids, 0, n);
+
+        Scratch s = scratch.get();
+        double resumeNorm = 0;
+        int last = -1;
+        for (int i = 0; i < n; i++) {
+            int skill = ids[i];
+            if (skill == last) continue; // duplicate mention
+            last = skill;
+            float weight = idf[skill];
+            resumeNorm += weight * weight;
+            for (int p = skillOffsets[skill]; p < skillOffsets[skill + 1]; p++) {
+                int role = roleIds[p];
+                if (s.dot[role] == 0f) s.touched[s.size++] = role;
+                s.dot[role] += weight * weights[p];
+            }
+        }
+
+        TopK top = new TopK(Math.max(1, k));
+        double scale = resumeNorm == 0 ? 0 : 100 / Math.sqrt(resumeNorm);
+        for (int i = 0; i < s.size; i++) {
+            int role = s.touched[i];
+            top.offer(role, s.dot[role] * scale);
+            s.dot[role] = 0f;
+        }
+        s.size = 0;
+        return k <= 0 ? List.of() : top.sorted();
+    }
+
+    /**
+     * Bounded top-K by score (ties by role ID); K is small, so a linear scan for the worst beats a heap.
+     */
+    private static final class TopK {
+
+        private final int[] roles;
+        private final double[] scores;
+        private int size;
+
+        TopK(int k) {
+            roles = new int[k];
+            scores = new double[k];
+        }
+
+        void offer(int roleId, double score) {
+            if (size < roles.length) {
+                roles[size] = roleId;
+                scores[size] = score;
+                size++;
+                return;
+            }
+            int min = 0;
+            for (int i = 1; i < size; i++) {
+                if (worse(i, min)) min = i;
+            }
+            if (score > scores[min] || (score == scores[min] && roleId < roles[min])) {
+                roles[min] = roleId;
+                scores[min] = score;
+            }
+        }
+
+        List<RoleScore> sorted() {
+            List<RoleScore> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) result.add(new RoleScore(roles[i], scores[i]));
+            result.sort((a, b) -> a.score() != b.score()
+                    ? Double.compare(b.score(), a.score())
+                    : Integer.compare(a.roleId(), b.roleId()));
+            return result;
+        }
+
+        private boolean worse(int i, int j) {
+            return scores[i] < scores[j] || (scores[i] == scores[j] && roles[i] > roles[j]);
+        }
+    }
+
+    /** Per-thread accumulators, reset after every query. */
+    private static final class Scratch {
+
+        final float[] dot;
+        final int[] touched;
+        int size;
+
+        Scratch(int roles) {
+            dot = new float[roles];
+            touched = new int[roles];
+        }
+    }
+}
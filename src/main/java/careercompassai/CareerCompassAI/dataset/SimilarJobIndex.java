@@ -0,0 +1,263 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * ✅ SimilarJobIndex
+ * - MinHash-LSH over every posting's skill set, built with the dataset: BANDS independent
+ *   min-hashes, and per hash the jobs grouped by the skill that wins it (CSR: per-skill
+ *   offsets into one array of job IDs, 4 bytes per job and band)
+ * - One hash per band because resume-to-posting similarities are low (Jaccard 0.1-0.3):
+ *   a job with similarity J shares a band with probability J, so it is found by one of b
+ *   bands with probability 1 - (1 - J)^b; wider bands would almost never collide
+ * - The number of bands a job shares estimates its similarity, so candidates are taken most
+ *   shared first, re-scored with the exact Jaccard over the sorted skill IDs and the top k
+ *   returned; bands probed and candidates re-scored are the per-query recall/latency knobs
+ * - exactNearest() is the brute-force reference (tests and the recall benchmark)
+ */
+public final class SimilarJobIndex {
+
+    /** Hashes built per dataset; at most 127, shared-band counts are kept in a byte. */
+    public static final int BANDS = 32;
+
+    private final JobSkillStore store;
+    private final int[][] bandOffsets; // per band, by winning skill; length = skills + 1
+    private final int[][] bandJobs;    // per band, job IDs grouped by winning skill, ascending within one
+
+    private SimilarJobIndex(JobSkillStore store, int[][] bandOffsets, int[][] bandJobs) {
+        this.store = store;
+        this.bandOffsets = bandOffsets;
+        this.bandJobs = bandJobs;
+    }
+
+    /**
+     * ✅ Job and its Jaccard similarity (0-1) to the query
+     */
+    public record Neighbour(int job, double similarity) {
+    }
+
+    public static SimilarJobIndex build(JobSkillStore store) {
+        return build(store, BANDS);
+    }
+
+    /**
+     * ✅ Group every job by its winning skill in every band; bands are independent and built in parallel
+     */
+    static SimilarJobIndex build(JobSkillStore store, int bands) {
+        int jobs = store.size();
+        int skills = store.getSkills().size();
+        int[][] offsets = new int[bands][];
+        int[][] members = new int[bands][];
+
+        IntStream.range(0, bands).parallel().forEach(band -> {
+            int[] skillHashes = new int[skills];
+            for (int skill = 0; skill < skills; skill++) skillHashes[skill] = hash(skill, band);
+
+            // Counting sort of the jobs by winning skill
+            int[] winnerOf = new int[jobs];
+            int[] bandOffsets = new int[skills + 1];
+            for (int job = 0; job < jobs; job++) {
+                int winner = -1;
+                int min = Integer.MAX_VALUE;
+                for (int k = store.skillStart(job); k < store.skillEnd(job); k++) {
+                    int skill = store.skillIdAt(k);
+                    if (winner < 0 || skillHashes[skill] < min) {
+                        winner = skill;
+                        min = skillHashes[skill];
+                    }
+                }
+                winnerOf[job] = winner;
+                bandOffsets[winner + 1]++;
+            }
+            for (int skill = 0; skill < skills; skill++) bandOffsets[skill + 1] += bandOffsets[skill];
+
+            int[] bandJobs = new int[jobs];
+            int[] cursor = Arrays.copyOf(bandOffsets, skills);
+            for (int job = 0; job < jobs; job++) bandJobs[cursor[winnerOf[job]]++] = job;
+
+            offsets[band] = bandOffsets;
+            members[band] = bandJobs;
+        });
+        return new SimilarJobIndex(store, offsets, members);
+    }
+
+    /**
+     * ✅ Sorted, distinct skill IDs for the given skills (any merged spelling); unknown skills are ignored
+     */
+    public int[] encode(List<String> skills) {
+        int[] ids = new int[skills.size()];
+        int n = 0;
+        for (String skill : skills) {
+            int id = SkillCanonicalizer.lookup(store.getSkills(), skill);
+            if (id != StringDictionary.MISSING) ids[n++] = id;
+        }
+        Arrays.sort(ids, 0, n);
+        int unique = 0;
+        for (int i = 0; i < n; i++) {
+            if (unique == 0 || ids[unique - 1] != ids[i]) ids[unique++] = ids[i];
+        }
+        return Arrays.copyOf(ids, unique);
+    }
+
+    /**
+     * ✅ Approximate k most similar jobs, most similar first (ties by job ID). Probes the
+     * first bands bands and re-scores at most candidates jobs, those sharing the most bands
+     */
+    public List<Neighbour> nearest(int[] query, int k, int bands, int candidates) {
+        if (query.length == 0 || k <= 0 || store.isEmpty()) return List.of();
+        bands = Math.max(1, Math.min(bands, bandJobs.length));
+        candidates = Math.max(candidates, k);
+
+        // The query's winning skill in every probed band
+        int[] winners = new int[bands];
+        int visits = 0;
+        for (int band = 0; band < bands; band++) {
+            int winner = query[0];
+            int min = hash(winner, band);
+            for (int skill : query) {
+                int h = hash(skill, band);
+                if (h < min) {
+                    winner = skill;
+                    min = h;
+                }
+            }
+            winners[band] = winner;
+            visits += bandOffsets[band][winner + 1] - bandOffsets[band][winner];
+        }
+        if (visits == 0) return List.of();
+
+        // Shared bands per job in an open-addressing table sized to the bucket hits, not the
+        // dataset (job + 1 as key, 0 = empty), plus the slots touched in first-visit order
+        int capacity = Integer.highestOneBit(Math.max(2, Math.min(visits, store.size())) * 2 - 1) << 1;
+        int mask = capacity - 1;
+        int[] keys = new int[capacity];
+        byte[] shared = new byte[capacity];
+        int[] touched = new int[Math.min(visits, store.size())];
+        int distinct = 0;
+        int[] histogram = new int[bands + 1]; // jobs by shared bands
+        for (int band = 0; band < bands; band++) {
+            int[] members = bandJobs[band];
+            for (int i = bandOffsets[band][winners[band]]; i < bandOffsets[band][winners[band] + 1]; i++) {
+                int job = members[i];
+                int slot = mix(job) & mask;
+                while (keys[slot] != 0 && keys[slot] != job + 1) slot = (slot + 1) & mask;
+                int count = shared[slot];
+                if (count == 0) {
+                    keys[slot] = job + 1;
+                    touched[distinct++] = slot;
+                }
+                histogram[count]--;
+                histogram[count + 1]++;
+                shared[slot] = (byte) (count + 1);
+            }
+        }
+
+        // Lowest shared-band count whose jobs all fit in the candidate budget; the rest of the
+        // budget goes to jobs one band below it, in first-visit order. When the jobs sharing
+        // every band alone exceed the budget, the first candidates of them are re-scored
+        int threshold = bands;
+        int taken = histogram[bands];
+        while (threshold > 1 && taken + histogram[threshold - 1] <= candidates) taken += histogram[--threshold];
+        int roomBelow = Math.max(0, candidates - taken);
+
+        long[] querySet = bitset(query);
+        TopNeighbours top = new TopNeighbours(k);
+        int budget = candidates;
+        for (int i = 0; i < distinct && budget > 0; i++) {
+            int slot = touched[i];
+            if (shared[slot] >= threshold || (shared[slot] == threshold - 1 && roomBelow-- > 0)) {
+                top.offer(keys[slot] - 1, similarity(querySet, query.length, keys[slot] - 1));
+                budget--;
+            }
+        }
+        return top.sorted();
+    }
+
+    /**
+     * ✅ Exact k most similar jobs by a full scan (reference for recall)
+     */
+    public List<Neighbour> exactNearest(int[] query, int k) {
+        if (query.length == 0 || k <= 0) return List.of();
+        long[] querySet = bitset(query);
+        TopNeighbours top = new TopNeighbours(k);
+        for (int job = 0; job < store.size(); job++) top.offer(job, similarity(querySet, query.length, job));
+        return top.sorted();
+    }
+
+    /**
+     * ✅ Jaccard similarity of a sorted skill-ID set and a job's skills
+     */
+    public double similarity(int[] query, int job) {
+        return similarity(bitset(query), query.length, job);
+    }
+
+    /** Jaccard similarity, testing each of the job's skills against the query's bitset (no branchy merge). */
+    private double similarity(long[] querySet, int querySize, int job) {
+        int shared = 0;
+        int end = store.skillEnd(job);
+        for (int k = store.skillStart(job); k < end; k++) {
+            int skill = store.skillIdAt(k);
+            int word = skill >>> 6;
+            if (word < querySet.length) shared += (int) (querySet[word] >>> skill) & 1;
+        }
+        return shared == 0 ? 0 : (double) shared / (querySize + store.skillCount(job) - shared);
+    }
+
+    private static long[] bitset(int[] sortedSkills) {
+        long[] bits = new long[sortedSkills.length == 0 ? 0 : (sortedSkills[sortedSkills.length - 1] >>> 6) + 1];
+        for (int skill : sortedSkills) bits[skill >>> 6] |= 1L << skill;
+        return bits;
+    }
+
+    /** Min-hash function of one band applied to a skill ID. */
+    private static int hash(int skill, int band) {
+        return mix(skill * 0x9E3779B1 + (band + 1) * 0x632BE5AB);
+    }
+
+    /** murmur3 fmix32 finalizer. */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Bounded top-k by similarity (ties by job ID), over jobs sharing at least one skill.
+     */
+    private static final class TopNeighbours {
+
+        private final int k;
+        private final PriorityQueue<Neighbour> heap; // worst on top
+
+        TopNeighbours(int k) {
+            this.k = k;
+            this.heap = new PriorityQueue<>(k + 1, (a, b) -> better(b, a) ? -1 : better(a, b) ? 1 : 0);
+        }
+
+        void offer(int job, double similarity) {
+            if (similarity == 0) return;
+            if (heap.size() == k) {
+                Neighbour worst = heap.peek();
+                if (similarity < worst.similarity() || (similarity == worst.similarity() && job > worst.job())) return;
+                heap.poll();
+            }
+            heap.add(new Neighbour(job, similarity));
+        }
+
+        List<Neighbour> sorted() {
+            List<Neighbour> result = new ArrayList<>(heap);
+            result.sort((a, b) -> better(a, b) ? -1 : better(b, a) ? 1 : 0);
+            return result;
+        }
+
+        private static boolean better(Neighbour a, Neighbour b) {
+            return a.similarity() > b.similarity() || (a.similarity() == b.similarity() && a.job() < b.job());
+        }
+    }
+}
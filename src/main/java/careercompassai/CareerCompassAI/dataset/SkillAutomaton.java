@@ -0,0 +1,276 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ✅ SkillAutomaton
+ * - Aho–Corasick automaton over every skill spelling (plus aliases such as "k8s")
+ * - One pass over the resume text finds all skills, regardless of vocabulary size
+ * - Matches only count on token boundaries, so "c" does not fire inside "science"
+ *   and "java" does not fire inside "javascript"
+ * - Transitions live in a primitive open-addressing table, not per-node maps
+ */
+public final class SkillAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final long[] edgeKeys;   // (node << 16 | char) + 1; 0 = empty slot
+    private final int[] edgeTargets;
+    private final int edgeMask;
+    private final int[] fail;
+    private final int[] output;      // pattern ending at this node, or NONE
+    private final int[] outputLink;  // nearest node on the fail chain with an output, or ROOT
+    private final int[] patternLength;
+    private final String[] patternSkill;
+
+    private SkillAutomaton(long[] edgeKeys, int[] edgeTargets, int[] fail, int[] output, int[] outputLink,
+                           int[] patternLength, String[] patternSkill) {
+        this.edgeKeys = edgeKeys;
+        this.edgeTargets = edgeTargets;
+        this.edgeMask = edgeKeys.length - 1;
+        this.fail = fail;
+        this.output = output;
+        this.outputLink = outputLink;
+        this.patternLength = patternLength;
+        this.patternSkill = patternSkill;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int patternCount() {
+        return patternSkill.length;
+    }
+
+    /**
+     * ✅ Distinct canonical skills found in the text, in order of first appearance
+     */
+    public List<String> extract(String text) {
+        char[] normalized = normalize(text);
+        Set<String> found = new LinkedHashSet<>();
+
+        int state = ROOT;
+        for (int i = 0; i < normalized.length; i++) {
+            char c = normalized[i];
+            int next = transition(state, c);
+            while (next == NONE && state != ROOT) {
+                state = fail[state];
+                next = transition(state, c);
+            }
+            state = next == NONE ? ROOT : next;
+
+            int node = output[state] != NONE ? state : outputLink[state];
+            while (node != ROOT) {
+                int pattern = output[node];
+                int start = i - patternLength[pattern] + 1;
+                if (isBoundary(normalized, start - 1, normalized[start])
+                        && isBoundary(normalized, i + 1, normalized[i])) {
+                    found.add(patternSkill[pattern]);
+                }
+                node = outputLink[node];
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * A match edge is a token boundary when the neighbouring character is not part
+     * of a word — or when the pattern itself ends in punctuation ("c++", "c#").
+     */
+    private static boolean isBoundary(char[] text, int neighbour, char edgeOfMatch) {
+        if (neighbour < 0 || neighbour >= text.length) return true;
+        return !isWordChar(text[neighbour]) || !isWordChar(edgeOfMatch);
+    }
+
+    /**
+     * '+' and '#' count as word characters so "c" does not fire inside "c++" or "c#".
+     */
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#';
+    }
+
+    private int transition(int node, char c) {
+        long key = edgeKey(node, c);
+        int slot = mix(key) & edgeMask;
+        while (true) {
+            long k = edgeKeys[slot];
+            if (k == key) return edgeTargets[slot];
+            if (k == 0) return NONE;
+            slot = (slot + 1) & edgeMask;
+        }
+    }
+
+    /**
+     * Lower-case and collapse whitespace runs to one space, so patterns and text line up.
+     */
+    static char[] normalize(String text) {
+        char[] out = new char[text.length()];
+        int n = 0;
+        boolean space = true; // drops leading whitespace
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!space) out[n++] = ' ';
+                space = true;
+            } else {
+                out[n++] = Character.toLowerCase(c);
+                space = false;
+            }
+        }
+        if (n > 0 && out[n - 1] == ' ') n--;
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static long edgeKey(int node, char c) {
+        return (((long) node << 16) | c) + 1;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * ✅ Collects patterns, then compiles the trie, failure and output links
+     */
+    public static final class Builder {
+
+        private final Map<String, String> patterns = new HashMap<>();
+
+        /**
+         * ✅ Match this spelling and report it as the given skill
+         */
+        public Builder add(String pattern, String skill) {
+            String key = new String(normalize(pattern));
+            if (!key.isEmpty()) patterns.putIfAbsent(key, skill);
+            return this;
+        }
+
+        public Builder add(String skill) {
+            return add(skill, skill);
+        }
+
+        public SkillAutomaton build() {
+            // Trie with first-child / next-sibling lists (needed for the BFS below)
+            int capacity = 1024;
+            int[] firstChild = new int[capacity];
+            int[] nextSibling = new int[capacity];
+            char[] edgeChar = new char[capacity];
+            int[] output = new int[capacity];
+            Arrays.fill(firstChild, NONE);
+            Arrays.fill(output, NONE);
+            int nodes = 1;
+
+            int tableSize = Integer.highestOneBit(Math.max(16, patterns.size() * 16)) << 1;
+            long[] keys = new long[tableSize];
+            int[] targets = new int[tableSize];
+            int edges = 0;
+
+            int[] patternLength = new int[patterns.size()];
+            String[] patternSkill = new String[patterns.size()];
+            int pattern = 0;
+
+            for (Map.Entry<String, String> entry : patterns.entrySet()) {
+                String text = entry.getKey();
+                int node = ROOT;
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    int child = lookup(keys, targets, edgeKey(node, c));
+                    if (child == NONE) {
+                        if (nodes == capacity) {
+                            capacity *= 2;
+                            firstChild = grow(firstChild, capacity);
+                            nextSibling = Arrays.copyOf(nextSibling, capacity);
+                            edgeChar = Arrays.copyOf(edgeChar, capacity);
+                            output = grow(output, capacity);
+                        }
+                        child = nodes++;
+                        edgeChar[child] = c;
+                        nextSibling[child] = firstChild[node];
+                        firstChild[node] = child;
+
+                        if ((edges + 1) * 2 > keys.length) {
+                            long[] oldKeys = keys;
+                            int[] oldTargets = targets;
+                            keys = new long[oldKeys.length * 2];
+                            targets = new int[oldKeys.length * 2];
+                            for (int s = 0; s < oldKeys.length; s++) {
+                                if (oldKeys[s] != 0) insert(keys, targets, oldKeys[s], oldTargets[s]);
+                            }
+                        }
+                        insert(keys, targets, edgeKey(node, c), child);
+                        edges++;
+                    }
+                    node = child;
+                }
+                output[node] = pattern;
+                patternLength[pattern] = text.length();
+                patternSkill[pattern] = entry.getValue();
+                pattern++;
+            }
+
+            // Breadth-first failure links
+            int[] fail = new int[nodes];
+            int[] outputLink = new int[nodes];
+            int[] queue = new int[nodes];
+            int head = 0;
+            int tail = 0;
+            for (int child = firstChild[ROOT]; child != NONE; child = nextSibling[child]) {
+                fail[child] = ROOT;
+                outputLink[child] = ROOT;
+                queue[tail++] = child;
+            }
+            while (head < tail) {
+                int node = queue[head++];
+                for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                    char c = edgeChar[child];
+                    int f = fail[node];
+                    int target = lookup(keys, targets, edgeKey(f, c));
+                    while (target == NONE && f != ROOT) {
+                        f = fail[f];
+                        target = lookup(keys, targets, edgeKey(f, c));
+                    }
+                    fail[child] = target == NONE ? ROOT : target;
+                    outputLink[child] = output[fail[child]] != NONE ? fail[child] : outputLink[fail[child]];
+                    queue[tail++] = child;
+                }
+            }
+
+            return new SkillAutomaton(keys, targets, fail, Arrays.copyOf(output, nodes), outputLink,
+                    patternLength, patternSkill);
+        }
+
+        private static int lookup(long[] keys, int[] targets, long key) {
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (true) {
+                if (keys[slot] == key) return targets[slot];
+                if (keys[slot] == 0) return NONE;
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private static void insert(long[] keys, int[] targets, long key, int target) {
+            int mask = keys.length - 1;
+            int slot = mix(key) & mask;
+            while (keys[slot] != 0) slot = (slot + 1) & mask;
+            keys[slot] = key;
+            targets[slot] = target;
+        }
+
+        private static int[] grow(int[] array, int capacity) {
+            int old = array.length;
+            int[] grown = Arrays.copyOf(array, capacity);
+            Arrays.fill(grown, old, capacity, NONE);
+            return grown;
+        }
+    }
+}
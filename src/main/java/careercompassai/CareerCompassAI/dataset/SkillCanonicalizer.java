@@ -0,0 +1,356 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ✅ SkillCanonicalizer
+ * - Ingest-time stage that folds the many spellings of one skill into a single skill ID
+ *   ("node.js", "nodejs", "Node JS"; "kubernates" → "kubernetes") before anything is derived
+ *   from the store, so every matcher, index and profile works on the smaller vocabulary
+ * - Two passes: spellings with the same key (lowercase, separators dropped) merge outright;
+ *   then keys are visited most-postings first and join the closest more popular key within a
+ *   small edit distance, else lead a new skill. Candidates come from a trigram index over the
+ *   leaders, bucketed by key length: a key within distance d keeps at least one of any 3d+1 of
+ *   its distinct trigrams, so only the 3d+1 rarest are probed and no all-pairs comparison is made
+ * - Fuzzy merges are conservative: only keys of at least MIN_FUZZY_LENGTH chars, with the same
+ *   digits ("python2" ≠ "python3"), into a key listed DOMINANCE× as often (a typo is rare next
+ *   to the real spelling; two genuine skills are both common)
+ * - A canonical skill is named after its most listed spelling; every other spelling seen in
+ *   the data is registered as an alias in the new skill dictionary, and every merge key as a
+ *   lookup key. Only aliases are spellings (the skill extractor matches them), so a key such
+ *   as "net" (".net") never becomes a pattern
+ */
+public final class SkillCanonicalizer {
+
+    /**
+     * Bump when key() or the merge rules change; the constants below are part of
+     * {@link #fingerprint()} already, so tuning them needs no bump.
+     */
+    private static final int REVISION = 1;
+    static final int MIN_FUZZY_LENGTH = 6;
+    static final int MAX_FUZZY_LENGTH = 40;
+    static final int DOMINANCE = 4;
+    /** Leaders scanned per probed trigram; the first ones are the most listed, the likely targets of a typo. */
+    private static final int MAX_POSTINGS_PER_TRIGRAM = 2_000;
+
+    private SkillCanonicalizer() {
+    }
+
+    /**
+     * ✅ Identifies the canonicalization a vocabulary was built with (revision and thresholds);
+     * stored in the job snapshot header so a build that merges differently re-parses the CSVs
+     */
+    public static String fingerprint() {
+        return "canonicalizer/" + REVISION + "/" + MIN_FUZZY_LENGTH + "/" + MAX_FUZZY_LENGTH + "/" + DOMINANCE
+                + "/" + MAX_POSTINGS_PER_TRIGRAM;
+    }
+
+    /**
+     * ✅ Merge key: lowercase letters and digits plus '+' and '#' ("C++", "C#"); falls back
+     * to the trimmed lowercase skill when nothing is left
+     */
+    public static String key(String skill) {
+        StringBuilder key = new StringBuilder(skill.length());
+        for (int i = 0; i < skill.length(); i++) {
+            char c = Character.toLowerCase(skill.charAt(i));
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') key.append(c);
+        }
+        return key.isEmpty() ? skill.trim().toLowerCase() : key.toString();
+    }
+
+    /**
+     * ✅ Skill ID of any spelling: exact or trimmed lowercase name or alias first, then by merge
+     * key (a vocabulary that was never canonicalized has no keys: its names are tried instead);
+     * MISSING when unknown
+     */
+    public static int lookup(StringDictionary skills, String skill) {
+        int id = skills.id(skill);
+        if (id != StringDictionary.MISSING) return id;
+        id = skills.id(skill.trim().toLowerCase());
+        if (id != StringDictionary.MISSING) return id;
+        String key = key(skill);
+        id = skills.idByKey(key);
+        return id != StringDictionary.MISSING ? id : skills.id(key);
+    }
+
+    /**
+     * ✅ The same postings over the canonical vocabulary: skill IDs remapped, each job's list
+     * re-sorted and de-duplicated (a posting listing "nodejs" and "node.js" keeps one)
+     */
+    public static JobSkillStore canonicalize(JobSkillStore store) {
+        StringDictionary raw = store.getSkills();
+        int[] canonicalOf = new int[raw.size()];
+        StringDictionary canonical = cluster(raw, store.skillDocumentFrequencies(), canonicalOf);
+
+        int[] offsets = store.skillOffsetsColumn();
+        int[] ids = store.skillIdsColumn();
+        int jobs = store.size();
+        int[] newOffsets = new int[jobs + 1];
+        int[] newIds = new int[ids.length];
+        int total = 0;
+        for (int job = 0; job < jobs; job++) {
+            int start = total;
+            for (int i = offsets[job]; i < offsets[job + 1]; i++) newIds[total++] = canonicalOf[ids[i]];
+            Arrays.sort(newIds, start, total);
+            int unique = start;
+            for (int i = start; i < total; i++) {
+                if (unique == start || newIds[unique - 1] != newIds[i]) newIds[unique++] = newIds[i];
+            }
+            total = unique;
+            newOffsets[job + 1] = total;
+        }
+        return new JobSkillStore(store.getRoles(), canonical, store.jobRolesColumn(), store.postedDaysColumn(),
+                newOffsets, Arrays.copyOf(newIds, total), store.linkOffsetsColumn(), store.linkBytesColumn());
+    }
+
+    /**
+     * Clusters the raw vocabulary; fills canonicalOf (raw ID → canonical ID) and returns the
+     * canonical dictionary, most listed skill first.
+     */
+    static StringDictionary cluster(StringDictionary raw, int[] frequencies, int[] canonicalOf) {
+        // Pass 1: group spellings by key; a key's postings and its most listed spelling
+        StringDictionary keys = new StringDictionary();
+        int[] keyOfSkill = new int[raw.size()];
+        List<int[]> keyStats = new ArrayList<>(); // {postings, best spelling}
+        for (int skill = 0; skill < raw.size(); skill++) {
+            int key = keys.intern(key(raw.name(skill)));
+            keyOfSkill[skill] = key;
+            if (key == keyStats.size()) keyStats.add(new int[]{0, skill});
+            int[] stats = keyStats.get(key);
+            stats[0] += frequencies[skill];
+            if (frequencies[skill] > frequencies[stats[1]]) stats[1] = skill;
+        }
+
+        // Most postings first, ties in dictionary order: (MAX - postings, key) packed into one long
+        long[] order = new long[keys.size()];
+        for (int key = 0; key < order.length; key++) {
+            order[key] = (long) (Integer.MAX_VALUE - keyStats.get(key)[0]) << 32 | key;
+        }
+        Arrays.sort(order);
+
+        // Pass 2: leader clustering of keys, candidates from a (trigram, length) index over leader keys
+        StringDictionary canonical = new StringDictionary();
+        int[] canonicalOfKey = new int[keys.size()];
+        String[] leaderKeys = new String[keys.size()];
+        int[] leaderPostings = new int[keys.size()];
+        String[] leaderDigits = new String[keys.size()];
+        SlotIndex index = new SlotIndex();
+        int[] seenBy = new int[keys.size()];
+        Arrays.fill(seenBy, -1);
+
+        Postings[] probed = new Postings[MAX_FUZZY_LENGTH];
+        for (long packed : order) {
+            int key = (int) packed;
+            String text = keys.name(key);
+            int postings = keyStats.get(key)[0];
+            int best = -1;
+
+            if (fuzzy(text)) {
+                int maxDistance = text.length() >= 10 ? 2 : 1;
+                String digits = digits(text);
+                int[] grams = trigrams(text);
+                int bestDistance = maxDistance + 1;
+                for (int length = text.length() - maxDistance; length <= text.length() + maxDistance; length++) {
+                    int lists = rarest(index, grams, length, 3 * maxDistance + 1, probed);
+                    for (int list = 0; list < lists; list++) {
+                        Postings leaders = probed[list];
+                        for (int i = 0; i < Math.min(leaders.size, MAX_POSTINGS_PER_TRIGRAM); i++) {
+                            int leader = leaders.ids[i];
+                            // Lists run most listed leader first: the rest are not dominant either
+                            if ((long) postings * DOMINANCE > leaderPostings[leader]) break;
+                            if (seenBy[leader] == key) continue;
+                            seenBy[leader] = key;
+                            if (!leaderDigits[leader].equals(digits)) continue;
+                            int distance = distance(text, leaderKeys[leader], maxDistance);
+                            // Ties go to the earlier (more listed) leader
+                            if (distance < bestDistance || (distance == bestDistance && leader < best)) {
+                                best = leader;
+                                bestDistance = distance;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (best < 0) {
+                best = canonical.intern(raw.name(keyStats.get(key)[1]));
+                leaderKeys[best] = text;
+                leaderPostings[best] = postings;
+                leaderDigits[best] = digits(text);
+                // Only a leader listed DOMINANCE× as often as some key can absorb it
+                if (fuzzy(text) && postings >= DOMINANCE) {
+                    for (int gram : trigrams(text)) {
+                        index.postings(slot(gram, text.length())).add(best);
+                    }
+                }
+            }
+            canonicalOfKey[key] = best;
+        }
+
+        for (int skill = 0; skill < raw.size(); skill++) {
+            int id = canonicalOfKey[keyOfSkill[skill]];
+            canonicalOf[skill] = id;
+            canonical.alias(raw.name(skill), id);
+        }
+        for (int key = 0; key < keys.size(); key++) canonical.lookupKey(keys.name(key), canonicalOfKey[key]);
+        return canonical;
+    }
+
+    /** Growable list of leader IDs for one (trigram, length) slot. */
+    private static final class Postings {
+
+        int[] ids = new int[4];
+        int size;
+
+        void add(int id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+    }
+
+    /**
+     * Open-addressing table from slot to its leader list, so probing does not box ints.
+     */
+    private static final class SlotIndex {
+
+        private int[] slots = new int[1 << 12];
+        private Postings[] lists = new Postings[1 << 12];
+        private int size;
+
+        Postings get(int slot) {
+            int mask = slots.length - 1;
+            for (int i = slot & mask; lists[i] != null; i = (i + 1) & mask) {
+                if (slots[i] == slot) return lists[i];
+            }
+            return null;
+        }
+
+        /** The slot's list, created when absent. */
+        Postings postings(int slot) {
+            Postings postings = get(slot);
+            if (postings != null) return postings;
+            if (++size * 2 > slots.length) grow();
+            postings = new Postings();
+            put(slot, postings);
+            return postings;
+        }
+
+        private void put(int slot, Postings postings) {
+            int mask = slots.length - 1;
+            int i = slot & mask;
+            while (lists[i] != null) i = (i + 1) & mask;
+            slots[i] = slot;
+            lists[i] = postings;
+        }
+
+        private void grow() {
+            int[] oldSlots = slots;
+            Postings[] oldLists = lists;
+            slots = new int[oldSlots.length * 2];
+            lists = new Postings[oldLists.length * 2];
+            for (int i = 0; i < oldSlots.length; i++) {
+                if (oldLists[i] != null) put(oldSlots[i], oldLists[i]);
+            }
+        }
+    }
+
+    /**
+     * (trigram, length) folded into a well-spread int; the rare collision only adds
+     * candidates, which are verified anyway.
+     */
+    private static int slot(int gram, int length) {
+        long z = ((long) gram << 8 | length) * 0x9E3779B97F4A7C15L;
+        return (int) (z ^ (z >>> 32));
+    }
+
+    /**
+     * The count shortest posting lists among the key's trigrams at one leader length; a
+     * trigram no leader of that length has is the shortest list of all (empty), and when
+     * fewer than count trigrams are indexed every indexed one is probed. Fills out and
+     * returns how many lists it holds.
+     */
+    private static int rarest(SlotIndex index, int[] grams, int length, int count, Postings[] out) {
+        int found = 0;
+        int missing = 0;
+        for (int gram : grams) {
+            Postings postings = index.get(slot(gram, length));
+            if (postings == null) {
+                if (++missing >= count) return 0;
+            } else {
+                out[found++] = postings;
+            }
+        }
+        // Partial selection sort: count is at most 7, grams at most MAX_FUZZY_LENGTH
+        int wanted = Math.min(found, count - missing);
+        for (int i = 0; i < wanted; i++) {
+            int min = i;
+            for (int j = i + 1; j < found; j++) {
+                if (out[j].size < out[min].size) min = j;
+            }
+            Postings swap = out[i];
+            out[i] = out[min];
+            out[min] = swap;
+        }
+        return wanted;
+    }
+
+    private static boolean fuzzy(String key) {
+        return key.length() >= MIN_FUZZY_LENGTH && key.length() <= MAX_FUZZY_LENGTH;
+    }
+
+    /** Distinct character trigrams, packed into an int (chars above 0x3FF share buckets; verified later). */
+    private static int[] trigrams(String key) {
+        int[] grams = new int[key.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (key.charAt(i) & 0x3FF) << 20 | (key.charAt(i + 1) & 0x3FF) << 10 | (key.charAt(i + 2) & 0x3FF);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (distinct == 0 || grams[distinct - 1] != grams[i]) grams[distinct++] = grams[i];
+        }
+        return distinct == grams.length ? grams : Arrays.copyOf(grams, distinct);
+    }
+
+    /** Digits of the key in order; the shared "" when there are none, so most checks are one identity test. */
+    private static String digits(String key) {
+        StringBuilder digits = new StringBuilder();
+        for (int i = 0; i < key.length(); i++) {
+            if (Character.isDigit(key.charAt(i))) digits.append(key.charAt(i));
+        }
+        return digits.isEmpty() ? "" : digits.toString();
+    }
+
+    /**
+     * Levenshtein distance, or max + 1 as soon as it must exceed max; only the diagonal
+     * band of width 2·max + 1 is computed.
+     */
+    static int distance(String a, String b, int max) {
+        int n = a.length(), m = b.length();
+        if (Math.abs(n - m) > max) return max + 1;
+        int outside = max + 1;
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) previous[j] = j <= max ? j : outside;
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - max), to = Math.min(m, i + max);
+            current[0] = i <= max ? i : outside;
+            if (from > 1) current[from - 1] = outside;
+            int rowMin = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                int value = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(value, outside);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < m) current[to + 1] = outside;
+            if (rowMin > max) return outside;
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[m], outside);
+    }
+}
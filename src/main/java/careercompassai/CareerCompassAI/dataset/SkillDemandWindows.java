@@ -0,0 +1,196 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * ✅ SkillDemandWindows
+ * - Skill mentions bucketed by posting date into two ring buffers of int counters:
+ *   daily (last dailySlots days) and weekly (last weeklySlots weeks)
+ * - Counters are skill-major (one contiguous run of slots per skill), so a window
+ *   sum for one skill is a short sequential scan
+ * - "Now" is the latest posting day seen, not the wall clock: the dataset is a
+ *   historical dump, and windows stay meaningful when it is replayed
+ * - Top movers are memoized until the next record(); not thread-safe, callers serialize
+ */
+public final class SkillDemandWindows {
+
+    /**
+     * ✅ Mentions in the recent window vs the baseline window before it.
+     * growth = recent / (baseline scaled to the recent window's length) - 1
+     */
+    public record SkillGrowth(int skillId, int recent, int baseline, double growth) {
+    }
+
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private final Ring daily;
+    private final Ring weekly;
+    private int skillCapacity;
+    private int latestDay = NONE;
+
+    private String moversKey;
+    private List<SkillGrowth> movers;
+
+    public SkillDemandWindows(int dailySlots, int weeklySlots, int initialSkills) {
+        this.skillCapacity = Math.max(16, initialSkills);
+        this.daily = new Ring(dailySlots, skillCapacity);
+        this.weekly = new Ring(weeklySlots, skillCapacity);
+    }
+
+    /**
+     * ✅ Count one posting's skills (skillIds[from..to)) on the given epoch day
+     */
+    public void record(int day, int[] skillIds, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (skillIds[i] >= skillCapacity) grow(skillIds[i] + 1);
+        }
+        if (latestDay == NONE || day > latestDay) latestDay = day;
+
+        int week = week(day);
+        daily.advanceTo(day);
+        weekly.advanceTo(week);
+        for (int i = from; i < to; i++) {
+            daily.add(day, skillIds[i]);
+            weekly.add(week, skillIds[i]);
+        }
+        movers = null;
+    }
+
+    /** Latest epoch day recorded, or Integer.MIN_VALUE when empty. */
+    public int latestDay() {
+        return latestDay;
+    }
+
+    public boolean isEmpty() {
+        return latestDay == NONE;
+    }
+
+    /**
+     * ✅ Growth of one skill: the last recentDays vs the baselineDays before them
+     */
+    public SkillGrowth growth(int skillId, int recentDays, int baselineDays) {
+        if (isEmpty() || skillId < 0 || skillId >= skillCapacity) {
+            return new SkillGrowth(skillId, 0, 0, 0.0);
+        }
+        Window window = window(recentDays, baselineDays);
+        return growth(skillId, window);
+    }
+
+    /**
+     * ✅ Skills whose demand grew the most, ignoring skills with fewer than
+     * minMentions mentions across both windows (0 → 1 is not a trend)
+     */
+    public List<SkillGrowth> topMovers(int recentDays, int baselineDays, int minMentions, int limit) {
+        if (isEmpty()) return List.of();
+        String key = recentDays + "/" + baselineDays + "/" + minMentions + "/" + limit;
+        if (movers != null && key.equals(moversKey)) return movers;
+
+        Window window = window(recentDays, baselineDays);
+        List<SkillGrowth> candidates = new ArrayList<>();
+        for (int skill = 0; skill < skillCapacity; skill++) {
+            SkillGrowth growth = growth(skill, window);
+            if (growth.recent() > 0 && growth.recent() + growth.baseline() >= minMentions) {
+                candidates.add(growth);
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(SkillGrowth::growth).reversed()
+                .thenComparing(Comparator.comparingInt(SkillGrowth::recent).reversed())
+                .thenComparingInt(SkillGrowth::skillId));
+
+        movers = List.copyOf(candidates.subList(0, Math.min(limit, candidates.size())));
+        moversKey = key;
+        return movers;
+    }
+
+    private SkillGrowth growth(int skill, Window window) {
+        int recent = window.ring.sum(skill, window.latest - window.recent + 1, window.latest);
+        int baseline = window.ring.sum(skill, window.latest - window.recent - window.baseline + 1,
+                window.latest - window.recent);
+        double expected = baseline * (double) window.recent / window.baseline;
+        double growth = expected == 0 ? (recent > 0 ? recent : 0) : recent / expected - 1.0;
+        return new SkillGrowth(skill, recent, baseline, growth);
+    }
+
+    /** Daily ring when both windows fit in it, otherwise whole weeks. */
+    private Window window(int recentDays, int baselineDays) {
+        int recent = Math.max(1, recentDays);
+        int baseline = Math.max(1, baselineDays);
+        if (recent + baseline <= daily.slots) {
+            return new Window(daily, latestDay, recent, baseline);
+        }
+        int recentWeeks = Math.max(1, (recent + 6) / 7);
+        int baselineWeeks = Math.max(1, Math.min((baseline + 6) / 7, weekly.slots - recentWeeks));
+        return new Window(weekly, week(latestDay), recentWeeks, baselineWeeks);
+    }
+
+    private record Window(Ring ring, int latest, int recent, int baseline) {
+    }
+
+    private void grow(int minSkills) {
+        int capacity = skillCapacity;
+        while (capacity < minSkills) capacity *= 2;
+        daily.resize(capacity);
+        weekly.resize(capacity);
+        skillCapacity = capacity;
+    }
+
+    /** Monday-based week number (epoch day 0 was a Thursday). */
+    static int week(int epochDay) {
+        return Math.floorDiv(epochDay + 3, 7);
+    }
+
+    /**
+     * One ring of per-period counters: counts[skill * slots + period % slots].
+     * head is the newest period held; older periods are overwritten as head advances.
+     */
+    private static final class Ring {
+
+        private final int slots;
+        private int[] counts;
+        private int head = NONE;
+
+        Ring(int slots, int skills) {
+            this.slots = slots;
+            this.counts = new int[slots * skills];
+        }
+
+        void advanceTo(int period) {
+            if (head == NONE) {
+                head = period;
+                return;
+            }
+            if (period <= head) return;
+            int steps = Math.min(period - head, slots);
+            for (int p = period - steps + 1; p <= period; p++) {
+                int slot = Math.floorMod(p, slots);
+                for (int base = 0; base < counts.length; base += slots) {
+                    counts[base + slot] = 0;
+                }
+            }
+            head = period;
+        }
+
+        void add(int period, int skill) {
+            if (period <= head - slots) return; // older than the ring covers
+            counts[skill * slots + Math.floorMod(period, slots)]++;
+        }
+
+        int sum(int skill, int fromPeriod, int toPeriod) {
+            int from = Math.max(fromPeriod, head - slots + 1);
+            int to = Math.min(toPeriod, head);
+            int base = skill * slots;
+            int total = 0;
+            for (int p = from; p <= to; p++) {
+                total += counts[base + Math.floorMod(p, slots)];
+            }
+            return total;
+        }
+
+        void resize(int skills) {
+            counts = Arrays.copyOf(counts, slots * skills);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ SpaceSavingSketch
+ * - Top-K heavy hitters over an unbounded stream in O(capacity) memory
+ *   (Metwally et al., "Space-Saving")
+ * - Every key with true frequency > total / capacity is guaranteed to be tracked;
+ *   a tracked count overestimates the true count by at most its error
+ * - Counters live in an indexed min-heap, so offer() is O(log capacity) even when
+ *   the stream keeps evicting (job titles are a very long tail)
+ * - Not thread-safe; callers serialize offers
+ */
+public final class SpaceSavingSketch {
+
+    /**
+     * ✅ Tracked key, its estimated count and the maximum overestimation
+     */
+    public record HeavyHitter(String key, long count, long error) {
+    }
+
+    private final int capacity;
+    private final String[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<String, Integer> slots; // key → heap position
+    private int size;
+    private long total;
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+        this.keys = new String[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    public void offer(String key) {
+        offer(key, 1);
+    }
+
+    public void offer(String key, long increment) {
+        total += increment;
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            counts[slot] += increment;
+            siftDown(slot);
+            return;
+        }
+
+        if (size < capacity) {
+            keys[size] = key;
+            counts[size] = increment;
+            errors[size] = 0;
+            slots.put(key, size);
+            siftUp(size++);
+            return;
+        }
+
+        // Replace the minimum: the newcomer inherits its count as error bound
+        slots.remove(keys[0]);
+        long floor = counts[0];
+        keys[0] = key;
+        errors[0] = floor;
+        counts[0] = floor + increment;
+        slots.put(key, 0);
+        siftDown(0);
+    }
+
+    /**
+     * ✅ Estimated count of a key (0 when not tracked)
+     */
+    public long estimate(String key) {
+        Integer slot = slots.get(key);
+        return slot == null ? 0 : counts[slot];
+    }
+
+    /**
+     * ✅ The k largest counters, highest first (ties by key)
+     */
+    public List<HeavyHitter> top(int k) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> counts[a] != counts[b]
+                ? Long.compare(counts[b], counts[a])
+                : keys[a].compareTo(keys[b]));
+
+        List<HeavyHitter> top = new ArrayList<>(Math.min(k, size));
+        for (int i = 0; i < Math.min(k, size); i++) {
+            int slot = order[i];
+            top.add(new HeavyHitter(keys[slot], counts[slot], errors[slot]));
+        }
+        return top;
+    }
+
+    /** Sum of every increment offered so far. */
+    public long total() {
+        return total;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[parent] <= counts[i]) return;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) return;
+            int smallest = left + 1 < size && counts[left + 1] < counts[left] ? left + 1 : left;
+            if (counts[i] <= counts[smallest]) return;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        String key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        long count = counts[a];
+        counts[a] = counts[b];
+        counts[b] = count;
+        long error = errors[a];
+        errors[a] = errors[b];
+        errors[b] = error;
+        slots.put(keys[a], a);
+        slots.put(keys[b], b);
+    }
+}
@@ -0,0 +1,96 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ StringDictionary
+ * - Interns strings (skills, role titles) into dense int IDs (0..size-1)
+ * - IDs are assigned in first-seen order and never change once handed out
+ * - Aliases are extra spellings that look up to an existing ID without adding a name
+ *   (the skill vocabulary registers every merged spelling this way)
+ * - Lookup keys are normalized forms kept apart from names and aliases (the skill
+ *   vocabulary's merge keys): they resolve lookups but are never treated as a spelling
+ */
+public class StringDictionary {
+
+    public static final int MISSING = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> keys = new HashMap<>();
+
+    /**
+     * ✅ Return the ID for a value, assigning a new one if it is unseen
+     */
+    public int intern(String value) {
+        Integer id = ids.get(value);
+        if (id != null) return id;
+
+        int next = names.size();
+        ids.put(value, next);
+        names.add(value);
+        return next;
+    }
+
+    /**
+     * ✅ Look up an existing ID without growing the dictionary
+     */
+    public int id(String value) {
+        Integer id = ids.get(value);
+        return id == null ? MISSING : id;
+    }
+
+    /**
+     * ✅ Make value look up to an existing ID; a value that already has an ID keeps it
+     */
+    public void alias(String value, int id) {
+        if (id < 0 || id >= names.size()) throw new IllegalArgumentException("Unknown ID " + id);
+        ids.putIfAbsent(value, id);
+    }
+
+    /**
+     * ✅ Every alias and the ID it resolves to (names themselves are not included)
+     */
+    public Map<String, Integer> aliases() {
+        Map<String, Integer> aliases = new LinkedHashMap<>();
+        ids.forEach((value, id) -> {
+            if (!names.get(id).equals(value)) aliases.put(value, id);
+        });
+        return aliases;
+    }
+
+    /**
+     * ✅ Make a normalized key resolve to an existing ID; a key that already has an ID keeps it
+     */
+    public void lookupKey(String key, int id) {
+        if (id < 0 || id >= names.size()) throw new IllegalArgumentException("Unknown ID " + id);
+        keys.putIfAbsent(key, id);
+    }
+
+    /**
+     * ✅ ID registered for a lookup key; MISSING when there is none
+     */
+    public int idByKey(String key) {
+        Integer id = keys.get(key);
+        return id == null ? MISSING : id;
+    }
+
+    /**
+     * ✅ Every lookup key and the ID it resolves to
+     */
+    public Map<String, Integer> lookupKeys() {
+        return Map.copyOf(keys);
+    }
+
+    public String name(int id) {
+        return names.get(id);
+    }
+
+    public int size() {
+        return names.size();
+    }
+}
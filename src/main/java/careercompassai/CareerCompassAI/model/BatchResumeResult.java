@@ -0,0 +1,16 @@
+package careercompassai.CareerCompassAI.model;
+
+/**
+ * ✅ BatchResumeResult
+ * - One NDJSON line of a batch analysis; lines arrive in completion order, index
+ *   is the file's position in the upload (zip entries numbered in archive order)
+ * - Either analysis + roleFit are set, or error is
+ */
+public record BatchResumeResult(
+        int index,
+        String file,
+        ResumeAnalysis analysis,
+        RoleFit roleFit,
+        String error
+) {
+}
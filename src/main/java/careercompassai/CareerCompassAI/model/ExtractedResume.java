@@ -0,0 +1,14 @@
+package careercompassai.CareerCompassAI.model;
+
+import java.util.List;
+
+/**
+ * ✅ ExtractedResume
+ * - The dataset-independent half of an analysis: parsed text plus detected skills
+ * - What the resume cache stores; scoring is cheap enough to redo on every hit
+ */
+public record ExtractedResume(
+        String text,
+        List<String> skills
+) {
+}
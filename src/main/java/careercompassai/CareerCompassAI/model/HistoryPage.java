@@ -0,0 +1,16 @@
+package careercompassai.CareerCompassAI.model;
+
+import java.util.List;
+
+/**
+ * ✅ HistoryPage
+ * - One page (0-based) of an analysis-history aggregate, largest first
+ * - hasNext instead of a total: counting every group would cost as much as the whole aggregate
+ */
+public record HistoryPage<T>(
+        int page,
+        int size,
+        boolean hasNext,
+        List<T> items
+) {
+}
@@ -0,0 +1,14 @@
+package careercompassai.CareerCompassAI.model;
+
+/**
+ * ✅ JobListing
+ * - One live job posting from Adzuna (or a mock stand-in when the API is unavailable)
+ */
+public record JobListing(
+        String title,
+        String company,
+        String location,
+        String description,
+        String link
+) {
+}
@@ -0,0 +1,17 @@
+package careercompassai.CareerCompassAI.model;
+
+import java.time.Instant;
+
+/**
+ * ✅ PipelineJobStatus
+ * - Poll / SSE view of an asynchronous resume analysis
+ * - result is only present once stage is DONE, error only once it is FAILED
+ */
+public record PipelineJobStatus(
+        String jobId,
+        String stage,
+        Instant createdAt,
+        ResumeAnalysis result,
+        String error
+) {
+}
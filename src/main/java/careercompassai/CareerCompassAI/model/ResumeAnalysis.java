@@ -0,0 +1,22 @@
+package careercompassai.CareerCompassAI.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ ResumeAnalysis
+ * - Everything the result page shows for one resume
+ * - matchScores is ordered best role first
+ */
+public record ResumeAnalysis(
+        String resumeTextPreview,
+        List<String> extractedSkills,
+        Map<String, Double> matchScores,
+        String bestFitRole,
+        double bestScore,
+        List<String> matchedSkills,
+        List<String> missingSkills,
+        List<String> suggestedSkills,
+        List<String> certifications
+) {
+}
@@ -0,0 +1,12 @@
+package careercompassai.CareerCompassAI.model;
+
+/**
+ * ✅ RoleCount
+ * - A best-fit role, how many distinct resumes it was picked for and the average best score
+ */
+public record RoleCount(
+        String role,
+        long resumes,
+        double averageScore
+) {
+}
@@ -0,0 +1,16 @@
+package careercompassai.CareerCompassAI.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ RoleFit
+ * - How a resume scores against the common tech roles' top skills, best first
+ */
+public record RoleFit(
+        Map<String, Double> matchScores,
+        String bestFitRole,
+        double bestScore,
+        List<String> certifications
+) {
+}
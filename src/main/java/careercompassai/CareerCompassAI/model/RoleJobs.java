@@ -0,0 +1,13 @@
+package careercompassai.CareerCompassAI.model;
+
+import java.util.List;
+
+/**
+ * ✅ RoleJobs
+ * - Live listings for one trending role, as shown on the /jobs page
+ */
+public record RoleJobs(
+        String role,
+        List<JobListing> jobs
+) {
+}
@@ -0,0 +1,20 @@
+package careercompassai.CareerCompassAI.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * ✅ SimilarJob
+ * - One actual posting from the job dataset that resembles a resume (postedOn is null when unknown)
+ * - similarity: Jaccard of the two skill sets (0-100); matched / missing: the posting's
+ *   skills the resume has / lacks
+ */
+public record SimilarJob(
+        String title,
+        String link,
+        LocalDate postedOn,
+        double similarity,
+        List<String> matchedSkills,
+        List<String> missingSkills
+) {
+}
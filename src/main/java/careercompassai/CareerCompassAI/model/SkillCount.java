@@ -0,0 +1,11 @@
+package careercompassai.CareerCompassAI.model;
+
+/**
+ * ✅ SkillCount
+ * - A skill and how many distinct resumes listed it (as extracted, matched, missing or suggested)
+ */
+public record SkillCount(
+        String skill,
+        long resumes
+) {
+}
@@ -0,0 +1,15 @@
+package careercompassai.CareerCompassAI.model;
+
+import java.util.List;
+
+/**
+ * ✅ SkillGap
+ * - matched / missing: the target job's skills the resume has / lacks
+ * - suggested: trending skills the resume does not mention yet
+ */
+public record SkillGap(
+        List<String> matched,
+        List<String> missing,
+        List<String> suggested
+) {
+}
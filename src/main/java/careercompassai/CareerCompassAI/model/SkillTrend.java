@@ -0,0 +1,14 @@
+package careercompassai.CareerCompassAI.model;
+
+/**
+ * ✅ SkillTrend
+ * - Demand for one skill in the recent window vs the baseline window before it
+ * - growth is relative: 0.5 means 50% more mentions than the baseline rate
+ */
+public record SkillTrend(
+        String skill,
+        int recentMentions,
+        int baselineMentions,
+        double growth
+) {
+}
@@ -0,0 +1,181 @@
+package careercompassai.CareerCompassAI.repository;
+
+import careercompassai.CareerCompassAI.model.ResumeAnalysis;
+import careercompassai.CareerCompassAI.model.RoleCount;
+import careercompassai.CareerCompassAI.model.SkillCount;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ✅ AnalysisHistoryRepository
+ * - JDBC access to the analysis history (schema.sql): one resume_analysis row per analysis,
+ *   its skills by kind in analysis_skill and its role scores in analysis_role_score
+ * - Writes come in batches: one transaction and one batched insert per table, the
+ *   analyses' generated IDs keying their child rows
+ * - Aggregates count distinct resumes (resume_key), not analyses, so re-uploading the same
+ *   file while tweaking it does not inflate them; largest first, a page at a time
+ */
+@Repository
+public class AnalysisHistoryRepository {
+
+    /** Longest role / skill name stored (VARCHAR(255)); longer ones are cut. */
+    static final int MAX_NAME_LENGTH = 255;
+
+    private static final String INSERT_ANALYSIS = """
+            INSERT INTO resume_analysis (resume_key, analyzed_at, best_fit_role, best_score, skill_count)
+            VALUES (?, ?, ?, ?, ?)""";
+    // IGNORE: names equal under the column collation (case, accents) are one row
+    private static final String INSERT_SKILL = "INSERT IGNORE INTO analysis_skill (analysis_id, kind, skill) VALUES (?, ?, ?)";
+    private static final String INSERT_SCORE = "INSERT IGNORE INTO analysis_role_score (analysis_id, role, score) VALUES (?, ?, ?)";
+
+    private static final String TOP_SKILLS = """
+            SELECT s.skill, COUNT(DISTINCT a.resume_key) AS resumes FROM analysis_skill s
+            JOIN resume_analysis a ON a.id = s.analysis_id
+            WHERE s.kind = ?
+            GROUP BY s.skill ORDER BY resumes DESC, s.skill LIMIT ? OFFSET ?""";
+    private static final String TOP_SKILLS_FOR_ROLE = """
+            SELECT s.skill, COUNT(DISTINCT a.resume_key) AS resumes FROM resume_analysis a
+            JOIN analysis_skill s ON s.analysis_id = a.id AND s.kind = ?
+            WHERE a.best_fit_role = ?
+            GROUP BY s.skill ORDER BY resumes DESC, s.skill LIMIT ? OFFSET ?""";
+    private static final String TOP_ROLES = """
+            SELECT best_fit_role, COUNT(DISTINCT resume_key) AS resumes, AVG(best_score) AS average_score
+            FROM resume_analysis
+            GROUP BY best_fit_role ORDER BY resumes DESC, best_fit_role LIMIT ? OFFSET ?""";
+
+    /**
+     * ✅ Which list of an analysis a skill came from (stored as its code)
+     */
+    public enum SkillKind {
+        EXTRACTED(1), MATCHED(2), MISSING(3), SUGGESTED(4);
+
+        private final int code;
+
+        SkillKind(int code) {
+            this.code = code;
+        }
+    }
+
+    /**
+     * ✅ One analysis to record: the resume's cache key (SHA-256 of the upload) and when it ran
+     */
+    public record AnalysisRecord(String resumeKey, Instant analyzedAt, ResumeAnalysis analysis) {
+    }
+
+    private record SkillRow(long analysisId, SkillKind kind, String skill) {
+    }
+
+    private record ScoreRow(long analysisId, String role, double score) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public AnalysisHistoryRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * ✅ Insert a batch of analyses, all or nothing
+     */
+    public void insertAll(List<AnalysisRecord> records) {
+        if (records.isEmpty()) return;
+        transactionTemplate.executeWithoutResult(status -> {
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_ANALYSIS, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            AnalysisRecord record = records.get(i);
+                            ResumeAnalysis analysis = record.analysis();
+                            ps.setString(1, record.resumeKey());
+                            ps.setObject(2, LocalDateTime.ofInstant(record.analyzedAt(), ZoneOffset.UTC));
+                            ps.setString(3, name(analysis.bestFitRole()));
+                            ps.setDouble(4, analysis.bestScore());
+                            ps.setInt(5, analysis.extractedSkills().size());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return records.size();
+                        }
+                    }, keys);
+
+            // Generated IDs come back in batch order (the key column's label differs by driver)
+            List<Map<String, Object>> ids = keys.getKeyList();
+            List<SkillRow> skills = new ArrayList<>();
+            List<ScoreRow> scores = new ArrayList<>();
+            for (int i = 0; i < records.size(); i++) {
+                long id = ((Number) ids.get(i).values().iterator().next()).longValue();
+                ResumeAnalysis analysis = records.get(i).analysis();
+                addSkills(skills, id, SkillKind.EXTRACTED, analysis.extractedSkills());
+                addSkills(skills, id, SkillKind.MATCHED, analysis.matchedSkills());
+                addSkills(skills, id, SkillKind.MISSING, analysis.missingSkills());
+                addSkills(skills, id, SkillKind.SUGGESTED, analysis.suggestedSkills());
+                analysis.matchScores().forEach((role, score) -> scores.add(new ScoreRow(id, name(role), score)));
+            }
+
+            jdbcTemplate.batchUpdate(INSERT_SKILL, skills, skills.size(), (ps, row) -> {
+                ps.setLong(1, row.analysisId());
+                ps.setInt(2, row.kind().code);
+                ps.setString(3, row.skill());
+            });
+            jdbcTemplate.batchUpdate(INSERT_SCORE, scores, scores.size(), (ps, row) -> {
+                ps.setLong(1, row.analysisId());
+                ps.setString(2, row.role());
+                ps.setDouble(3, row.score());
+            });
+        });
+    }
+
+    /**
+     * ✅ Skills of one kind by how many distinct resumes listed them; role (optional) limits it
+     * to analyses with that best-fit role
+     */
+    public List<SkillCount> topSkills(SkillKind kind, String role, long offset, int limit) {
+        return role == null
+                ? jdbcTemplate.query(TOP_SKILLS, (rs, i) -> new SkillCount(rs.getString(1), rs.getLong(2)),
+                kind.code, limit, offset)
+                : jdbcTemplate.query(TOP_SKILLS_FOR_ROLE, (rs, i) -> new SkillCount(rs.getString(1), rs.getLong(2)),
+                kind.code, name(role), limit, offset);
+    }
+
+    /**
+     * ✅ Best-fit roles by how many distinct resumes they were picked for, with the average best
+     * score of those analyses
+     */
+    public List<RoleCount> topRoles(long offset, int limit) {
+        return jdbcTemplate.query(TOP_ROLES,
+                (rs, i) -> new RoleCount(rs.getString(1), rs.getLong(2), Math.round(rs.getDouble(3) * 100) / 100.0),
+                limit, offset);
+    }
+
+    /** Each (cut) name once per kind. */
+    private static void addSkills(List<SkillRow> rows, long id, SkillKind kind, List<String> skills) {
+        Set<String> seen = new LinkedHashSet<>();
+        for (String skill : skills) {
+            if (skill != null && !skill.isBlank() && seen.add(name(skill))) rows.add(new SkillRow(id, kind, name(skill)));
+        }
+    }
+
+    private static String name(String value) {
+        return value.length() > MAX_NAME_LENGTH ? value.substring(0, MAX_NAME_LENGTH) : value;
+    }
+}
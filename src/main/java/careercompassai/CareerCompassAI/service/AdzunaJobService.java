@@ -0,0 +1,302 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.model.JobListing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ AdzunaJobService
+ * - One shared, connection-pooling HttpClient for every Adzuna call
+ * - Several roles are fetched in parallel, so a page waits for the slowest call, not the sum
+ * - Responses are cached per (role, limit): fresh for cacheTtl, then served stale for up to
+ *   staleTtl while a single background refresh runs
+ * - Every stored response gets a new version (instance ID + counter), so callers can tag
+ *   the listings they got with an ETag without hashing them
+ * - A circuit breaker opens after consecutive failures; while open, callers get stale
+ *   listings or the mock ones immediately instead of waiting out a timeout each
+ * - Metrics: adzuna.request (latency by outcome), adzuna.requests, adzuna.cache
+ */
+@Service
+public class AdzunaJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(AdzunaJobService.class);
+
+    private record CachedJobs(List<JobListing> listings, long fetchedAtNanos, long generation) {
+    }
+
+    /** Distinguishes this process's generations from a previous run's. */
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong generations = new AtomicLong();
+
+    private final String baseUrl;
+    private final String appId;
+    private final String appKey;
+    private final Duration requestTimeout;
+    private final long cacheTtlNanos;
+    private final long staleTtlNanos;
+    private final int maxCacheEntries;
+    private final CircuitBreaker breaker;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService httpExecutor;
+    private final HttpClient http;
+
+    private final Map<String, CachedJobs> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<List<JobListing>>> inFlight = new ConcurrentHashMap<>();
+
+    public AdzunaJobService(MeterRegistry meterRegistry,
+                            @Value("${careercompass.adzuna.base-url:https://api.adzuna.com/v1/api/jobs/in/search/1}") String baseUrl,
+                            @Value("${careercompass.adzuna.app-id:5172f6e9}") String appId,
+                            @Value("${careercompass.adzuna.app-key:1a50ae704c49b923527083d265c94e96}") String appKey,
+                            @Value("${careercompass.adzuna.timeout:3s}") Duration requestTimeout,
+                            @Value("${careercompass.adzuna.threads:6}") int threads,
+                            @Value("${careercompass.adzuna.cache-ttl:10m}") Duration cacheTtl,
+                            @Value("${careercompass.adzuna.stale-ttl:1h}") Duration staleTtl,
+                            @Value("${careercompass.adzuna.cache-max-entries:500}") int maxCacheEntries,
+                            @Value("${careercompass.adzuna.breaker.failure-threshold:3}") int failureThreshold,
+                            @Value("${careercompass.adzuna.breaker.open-duration:30s}") Duration openDuration) {
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = baseUrl;
+        this.appId = appId;
+        this.appKey = appKey;
+        this.requestTimeout = requestTimeout;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        this.staleTtlNanos = staleTtl.toNanos();
+        this.maxCacheEntries = maxCacheEntries;
+        this.breaker = new CircuitBreaker(failureThreshold, openDuration.toNanos());
+
+        AtomicInteger ids = new AtomicInteger();
+        this.httpExecutor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "adzuna-http-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .executor(httpExecutor)
+                .build();
+    }
+
+    /**
+     * ✅ Listings for one role (never throws; falls back to stale or mock listings)
+     */
+    public List<JobListing> fetchJobs(String role, int limit) {
+        return fetchJobsAsync(role, limit).join();
+    }
+
+    /**
+     * ✅ Listings for several roles, fetched in parallel; keeps the order of roles
+     */
+    public Map<String, List<JobListing>> fetchJobs(List<String> roles, int limit) {
+        Map<String, CompletableFuture<List<JobListing>>> pending = new LinkedHashMap<>();
+        for (String role : roles) {
+            pending.put(role, fetchJobsAsync(role, limit));
+        }
+
+        Map<String, List<JobListing>> jobsByRole = new LinkedHashMap<>();
+        pending.forEach((role, listings) -> jobsByRole.put(role, listings.join()));
+        return jobsByRole;
+    }
+
+    public CompletableFuture<List<JobListing>> fetchJobsAsync(String role, int limit) {
+        String key = role.trim().toLowerCase() + "|" + limit;
+        CachedJobs cached = cache.get(key);
+        long age = cached == null ? Long.MAX_VALUE : System.nanoTime() - cached.fetchedAtNanos;
+
+        if (age < cacheTtlNanos) {
+            meterRegistry.counter("adzuna.cache", "result", "fresh").increment();
+            return CompletableFuture.completedFuture(cached.listings);
+        }
+        if (age < cacheTtlNanos + staleTtlNanos) {
+            meterRegistry.counter("adzuna.cache", "result", "stale").increment();
+            refresh(key, role, limit);
+            return CompletableFuture.completedFuture(cached.listings);
+        }
+        meterRegistry.counter("adzuna.cache", "result", "miss").increment();
+        return refresh(key, role, limit);
+    }
+
+    /**
+     * ✅ Version of listings returned by fetchJobs for this role and limit: unique to the cache
+     * entry they came from (a new one per stored response); null for mock listings
+     */
+    public String version(String role, int limit, List<JobListing> listings) {
+        CachedJobs cached = cache.get(role.trim().toLowerCase() + "|" + limit);
+        return cached != null && cached.listings == listings ? instanceId + "." + cached.generation : null;
+    }
+
+    public boolean isCircuitOpen() {
+        return breaker.isOpen();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpExecutor.shutdownNow();
+    }
+
+    /**
+     * One request per key at a time; concurrent callers share the same future.
+     */
+    private CompletableFuture<List<JobListing>> refresh(String key, String role, int limit) {
+        CompletableFuture<List<JobListing>> created = new CompletableFuture<>();
+        CompletableFuture<List<JobListing>> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) return existing;
+
+        load(key, role, limit).whenComplete((listings, error) -> {
+            inFlight.remove(key, created);
+            if (error == null) created.complete(listings);
+            else created.complete(fallback(key, role));
+        });
+        return created;
+    }
+
+    private CompletableFuture<List<JobListing>> load(String key, String role, int limit) {
+        if (!breaker.allowRequest()) {
+            meterRegistry.counter("adzuna.requests", "outcome", "short-circuited").increment();
+            return CompletableFuture.completedFuture(fallback(key, role));
+        }
+
+        String url = String.format("%s?app_id=%s&app_key=%s&what=%s&results_per_page=%d",
+                baseUrl, appId, appKey, URLEncoder.encode(role, StandardCharsets.UTF_8), limit);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        log.debug("Fetching Adzuna jobs for {}", role);
+        long start = System.nanoTime();
+        return http.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("HTTP " + response.statusCode());
+                    }
+                    return parseListings(response.body());
+                })
+                .handle((listings, error) -> {
+                    Timer.builder("adzuna.request")
+                            .description("Adzuna search latency, including response parsing")
+                            .tag("outcome", error == null ? "success" : "failure")
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    if (error == null) {
+                        breaker.recordSuccess();
+                        meterRegistry.counter("adzuna.requests", "outcome", "success").increment();
+                        store(key, listings);
+                        return listings;
+                    }
+                    breaker.recordFailure();
+                    meterRegistry.counter("adzuna.requests", "outcome", "failure").increment();
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    log.warn("Error fetching Adzuna jobs for '{}': {}", role, cause.toString());
+                    return fallback(key, role);
+                });
+    }
+
+    private void store(String key, List<JobListing> listings) {
+        cache.put(key, new CachedJobs(listings, System.nanoTime(), generations.incrementAndGet()));
+        if (cache.size() > maxCacheEntries) {
+            // Searched roles are user input: drop the oldest response to stay bounded
+            cache.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().fetchedAtNanos))
+                    .ifPresent(oldest -> cache.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    /**
+     * ✅ Last known listings for this key, however old, else the mock listings
+     */
+    private List<JobListing> fallback(String key, String role) {
+        CachedJobs cached = cache.get(key);
+        if (cached != null) return cached.listings;
+
+        log.info("No Adzuna listings for '{}'; serving mock jobs", role);
+        List<JobListing> jobList = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            jobList.add(new JobListing(role + " Role Example " + i, "CareerCompassAI Inc", "Remote / India",
+                    "This is a mock job listing generated locally because API data was not available.", "#"));
+        }
+        return jobList;
+    }
+
+    private static List<JobListing> parseListings(String response) {
+        JSONArray results = new JSONObject(response).getJSONArray("results");
+        List<JobListing> jobList = new ArrayList<>(results.length());
+
+        for (int i = 0; i < results.length(); i++) {
+            JSONObject job = results.getJSONObject(i);
+            jobList.add(new JobListing(
+                    job.optString("title", "No title"),
+                    job.optJSONObject("company") != null ?
+                            job.getJSONObject("company").optString("display_name", "N/A") : "N/A",
+                    job.optJSONObject("location") != null ?
+                            job.getJSONObject("location").optString("display_name", "N/A") : "N/A",
+                    job.optString("description", "No description available"),
+                    job.optString("redirect_url", "#")));
+        }
+        return Collections.unmodifiableList(jobList);
+    }
+
+    /**
+     * Closed → open after failureThreshold consecutive failures; after openNanos one
+     * trial request is let through (half-open) and decides whether it closes again.
+     */
+    private static final class CircuitBreaker {
+
+        private final int failureThreshold;
+        private final long openNanos;
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicBoolean trialInFlight = new AtomicBoolean();
+        private volatile long openedAtNanos;
+        private volatile boolean open;
+
+        CircuitBreaker(int failureThreshold, long openNanos) {
+            this.failureThreshold = failureThreshold;
+            this.openNanos = openNanos;
+        }
+
+        boolean allowRequest() {
+            if (!open) return true;
+            if (System.nanoTime() - openedAtNanos < openNanos) return false;
+            return trialInFlight.compareAndSet(false, true);
+        }
+
+        void recordSuccess() {
+            consecutiveFailures.set(0);
+            open = false;
+            trialInFlight.set(false);
+        }
+
+        void recordFailure() {
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold || open) {
+                openedAtNanos = System.nanoTime();
+                open = true;
+            }
+            trialInFlight.set(false);
+        }
+
+        boolean isOpen() {
+            return open;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.model.HistoryPage;
+import careercompassai.CareerCompassAI.model.ResumeAnalysis;
+import careercompassai.CareerCompassAI.model.RoleCount;
+import careercompassai.CareerCompassAI.model.SkillCount;
+import careercompassai.CareerCompassAI.repository.AnalysisHistoryRepository;
+import careercompassai.CareerCompassAI.repository.AnalysisHistoryRepository.AnalysisRecord;
+import careercompassai.CareerCompassAI.repository.AnalysisHistoryRepository.SkillKind;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ AnalysisHistoryService
+ * - Keeps every analysis (skills by kind, role scores, best fit) for aggregate reports,
+ *   written behind the request: record() only offers to a bounded queue, one writer thread
+ *   drains it in batches (up to batch-size, waiting at most linger for a batch to fill) and
+ *   inserts each batch in one transaction
+ * - A full queue or a failed batch drops those analyses (counted, never blocking a request);
+ *   whatever is queued at shutdown is still written
+ * - Aggregates (most missing skills, best-fit roles, ...) are paged straight from the database
+ *   and count distinct resumes, so re-analyzing the same upload is not counted twice
+ * - Metrics: history.queue.size, history.written, history.dropped (reason=queue_full|write_failed),
+ *   history.write (per batch)
+ */
+@Service
+public class AnalysisHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisHistoryService.class);
+    private static final long POLL_MILLIS = 200;
+
+    private final AnalysisHistoryRepository repository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<AnalysisRecord> queue;
+    private final Counter written;
+    private final Counter droppedFull;
+    private final Counter droppedFailed;
+    private final Timer writeTimer;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AnalysisHistoryService(MeterRegistry meterRegistry, AnalysisHistoryRepository repository,
+                                  @Value("${careercompass.history.enabled:true}") boolean enabled,
+                                  @Value("${careercompass.history.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${careercompass.history.batch-size:200}") int batchSize,
+                                  @Value("${careercompass.history.linger:200ms}") Duration linger) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.written = meterRegistry.counter("history.written");
+        this.droppedFull = meterRegistry.counter("history.dropped", "reason", "queue_full");
+        this.droppedFailed = meterRegistry.counter("history.dropped", "reason", "write_failed");
+        this.writeTimer = Timer.builder("history.write")
+                .description("Time to insert one batch of analyses").register(meterRegistry);
+        Gauge.builder("history.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.writer = new Thread(this::drain, "analysis-history-writer");
+        writer.setDaemon(true);
+        if (enabled) writer.start();
+    }
+
+    /**
+     * ✅ Queue an analysis for writing; never blocks (dropped when the queue is full)
+     */
+    public void record(String resumeKey, ResumeAnalysis analysis) {
+        if (!enabled || !running) return;
+        // The "no skills" placeholder is not a skill
+        List<String> skills = analysis.extractedSkills().stream()
+                .filter(skill -> !ResumeAnalysisService.NO_SKILLS.equals(skill)).toList();
+        ResumeAnalysis stored = new ResumeAnalysis(null, skills, analysis.matchScores(), analysis.bestFitRole(),
+                analysis.bestScore(), analysis.matchedSkills(), analysis.missingSkills(),
+                analysis.suggestedSkills(), analysis.certifications());
+        if (!queue.offer(new AnalysisRecord(resumeKey, Instant.now(), stored))) {
+            droppedFull.increment();
+            log.debug("Analysis history queue full, dropped {}", resumeKey.substring(0, 12));
+        }
+    }
+
+    /**
+     * ✅ Skills of one kind by how many distinct resumes listed them, optionally only for one best-fit role
+     */
+    public HistoryPage<SkillCount> topSkills(SkillKind kind, String role, int page, int size) {
+        return page(page, size, repository.topSkills(kind, role, (long) page * size, size + 1));
+    }
+
+    /**
+     * ✅ Best-fit roles by how many distinct resumes they were picked for
+     */
+    public HistoryPage<RoleCount> topRoles(int page, int size) {
+        return page(page, size, repository.topRoles((long) page * size, size + 1));
+    }
+
+    /**
+     * ✅ Stop taking analyses and write out the ones still queued
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer.isAlive()) writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /** One row past the page was fetched to tell whether another page follows. */
+    private static <T> HistoryPage<T> page(int page, int size, List<T> rows) {
+        boolean hasNext = rows.size() > size;
+        return new HistoryPage<>(page, size, hasNext, hasNext ? rows.subList(0, size) : rows);
+    }
+
+    /**
+     * Writer thread: wait for a first analysis, give the batch up to linger to fill, insert it.
+     */
+    private void drain() {
+        List<AnalysisRecord> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                AnalysisRecord first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize && running) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long left = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || left <= 0) break;
+                    AnalysisRecord next = queue.poll(left, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<AnalysisRecord> batch) {
+        try {
+            writeTimer.record(() -> repository.insertAll(batch));
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            droppedFailed.increment(batch.size());
+            log.warn("Could not write {} analyses to the history: {}", batch.size(), e.toString());
+        }
+    }
+}
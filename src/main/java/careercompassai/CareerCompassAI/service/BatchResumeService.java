@@ -0,0 +1,247 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.model.BatchResumeResult;
+import careercompassai.CareerCompassAI.model.ExtractedResume;
+import careercompassai.CareerCompassAI.model.ResumeAnalysis;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * ✅ BatchResumeService
+ * - Analyzes many resumes (plain files and/or zip archives) for recruiter bulk uploads
+ * - A reader thread expands the upload and hands files to a bounded parse pool;
+ *   at most 2 × concurrency files are held in memory at once
+ * - The caller's thread scores whatever has been parsed so far as one micro-batch
+ *   (one dataset version; each resume only touches the roles sharing one of its skills,
+ *   see RoleSkillVectors) and emits results as they complete, so the first
+ *   result goes out long before the last file is parsed
+ * - Every scored resume is recorded in the analysis history (AnalysisHistoryService)
+ */
+@Service
+public class BatchResumeService {
+
+    /**
+     * ✅ Opens one uploaded file; called once, on the reader thread
+     */
+    @FunctionalInterface
+    public interface ResumeSource {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * ✅ An uploaded file: a resume, or a zip of resumes
+     */
+    public record BatchFile(String name, ResumeSource source) {
+    }
+
+    private record Parsed(int index, String file, String key, ExtractedResume resume, String error) {
+    }
+
+    private static final Parsed END = new Parsed(-1, null, null, null, null);
+
+    private final ResumeAnalysisService resumeAnalysisService;
+    private final ResumeCacheService resumeCacheService;
+    private final AIResumeEnhancerService aiResumeEnhancerService;
+    private final AnalysisHistoryService analysisHistoryService;
+    private final ExecutorService readerPool;
+    private final ExecutorService parsePool;
+    private final int concurrency;
+    private final int microBatch;
+    private final int maxFiles;
+    private final long maxFileBytes;
+
+    public BatchResumeService(ResumeAnalysisService resumeAnalysisService,
+                              ResumeCacheService resumeCacheService,
+                              AIResumeEnhancerService aiResumeEnhancerService,
+                              AnalysisHistoryService analysisHistoryService,
+                              @Value("${careercompass.batch.concurrency:4}") int concurrency,
+                              @Value("${careercompass.batch.micro-batch:16}") int microBatch,
+                              @Value("${careercompass.batch.max-files:500}") int maxFiles,
+                              @Value("${careercompass.batch.max-file-size:10MB}") DataSize maxFileSize) {
+        this.resumeAnalysisService = resumeAnalysisService;
+        this.resumeCacheService = resumeCacheService;
+        this.aiResumeEnhancerService = aiResumeEnhancerService;
+        this.analysisHistoryService = analysisHistoryService;
+        this.concurrency = concurrency;
+        this.microBatch = microBatch;
+        this.maxFiles = maxFiles;
+        this.maxFileBytes = maxFileSize.toBytes();
+        this.readerPool = Executors.newCachedThreadPool(daemonThreads("resume-batch-reader"));
+        this.parsePool = Executors.newFixedThreadPool(concurrency, daemonThreads("resume-batch-parse"));
+    }
+
+    /**
+     * ✅ Analyze every file, calling sink (on the caller's thread) once per resume as results complete
+     */
+    public void analyze(List<BatchFile> files, Consumer<BatchResumeResult> sink) throws InterruptedException {
+        BlockingQueue<Parsed> parsed = new LinkedBlockingQueue<>();
+        Semaphore inFlight = new Semaphore(concurrency * 2);
+        AtomicInteger submitted = new AtomicInteger();
+
+        Future<?> reader = readerPool.submit(() -> {
+            try {
+                read(files, parsed, inFlight, submitted);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                parsed.add(END);
+            }
+        });
+
+        try {
+            int emitted = 0;
+            boolean readerDone = false;
+            List<Parsed> batch = new ArrayList<>(microBatch);
+            while (!readerDone || emitted < submitted.get()) {
+                batch.clear();
+                batch.add(parsed.take());
+                parsed.drainTo(batch, microBatch - 1);
+
+                List<Parsed> ok = new ArrayList<>(batch.size());
+                for (Parsed item : batch) {
+                    if (item == END) {
+                        readerDone = true;
+                    } else if (item.error() != null) {
+                        sink.accept(new BatchResumeResult(item.index(), item.file(), null, null, item.error()));
+                        emitted++;
+                    } else {
+                        ok.add(item);
+                    }
+                }
+                if (ok.isEmpty()) continue;
+
+                List<ResumeAnalysis> analyses = resumeAnalysisService.scoreAll(ok.stream().map(Parsed::resume).toList());
+                for (int i = 0; i < ok.size(); i++) {
+                    Parsed item = ok.get(i);
+                    analysisHistoryService.record(item.key(), analyses.get(i));
+                    sink.accept(new BatchResumeResult(item.index(), item.file(), analyses.get(i),
+                            aiResumeEnhancerService.roleFit(analyses.get(i)), null));
+                    emitted++;
+                }
+            }
+        } finally {
+            reader.cancel(true); // client went away: stop expanding the upload
+        }
+    }
+
+    /**
+     * Reader thread: expand zips, enforce limits, hand each file to the parse pool.
+     */
+    private void read(List<BatchFile> files, BlockingQueue<Parsed> parsed, Semaphore inFlight,
+                      AtomicInteger submitted) throws InterruptedException {
+        for (BatchFile file : files) {
+            try (InputStream raw = new BufferedInputStream(file.source().open())) {
+                if (isZip(file.name(), raw)) {
+                    ZipInputStream zip = new ZipInputStream(raw);
+                    ZipEntry entry;
+                    while ((entry = zip.getNextEntry()) != null) {
+                        if (entry.isDirectory() || isHidden(entry.getName())) continue;
+                        if (!submit(file.name() + "!/" + entry.getName(), zip, parsed, inFlight, submitted)) return;
+                    }
+                } else if (!submit(file.name(), raw, parsed, inFlight, submitted)) {
+                    return;
+                }
+            } catch (IOException e) {
+                parsed.add(new Parsed(submitted.getAndIncrement(), file.name(), null, null,
+                        "Could not read upload: " + e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Read one file into memory (bounded) and queue it for parsing; false once maxFiles is hit.
+     */
+    private boolean submit(String name, InputStream in, BlockingQueue<Parsed> parsed, Semaphore inFlight,
+                           AtomicInteger submitted) throws IOException, InterruptedException {
+        if (submitted.get() >= maxFiles) {
+            parsed.add(new Parsed(submitted.getAndIncrement(), name, null, null,
+                    "Batch limit of " + maxFiles + " files reached; remaining files skipped"));
+            return false;
+        }
+
+        byte[] bytes = in.readNBytes((int) Math.min(Integer.MAX_VALUE - 8, maxFileBytes + 1));
+        int index = submitted.getAndIncrement();
+        if (bytes.length > maxFileBytes) {
+            parsed.add(new Parsed(index, name, null, null, "File is larger than " + maxFileBytes + " bytes"));
+            return true;
+        }
+        if (bytes.length == 0) {
+            parsed.add(new Parsed(index, name, null, null, "File is empty"));
+            return true;
+        }
+
+        inFlight.acquire();
+        try {
+            parsePool.execute(() -> {
+                try {
+                    String key = ResumeCacheService.key(bytes);
+                    parsed.add(new Parsed(index, name, key, extract(key, bytes), null));
+                } catch (Exception e) {
+                    parsed.add(new Parsed(index, name, null, null, "Error processing resume: " + e.getMessage()));
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            parsed.add(new Parsed(index, name, null, null, "Batch service is shutting down"));
+        }
+        return true;
+    }
+
+    /**
+     * Parse + extract through the shared resume cache (duplicates in a batch are common).
+     */
+    private ExtractedResume extract(String key, byte[] resume) throws Exception {
+        ExtractedResume extracted = resumeCacheService.get(key);
+        if (extracted == null) {
+            String text = resumeAnalysisService.parse(new ByteArrayInputStream(resume));
+            extracted = new ExtractedResume(text, resumeAnalysisService.extractSkills(text));
+            resumeCacheService.put(key, extracted);
+        }
+        return extracted;
+    }
+
+    private static boolean isZip(String name, InputStream in) throws IOException {
+        if (name != null && name.toLowerCase().endsWith(".zip")) return true;
+        in.mark(4);
+        byte[] magic = in.readNBytes(4);
+        in.reset();
+        return magic.length == 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4;
+    }
+
+    /** macOS resource forks and dotfiles that archivers add next to real documents. */
+    private static boolean isHidden(String entryName) {
+        String base = entryName.substring(entryName.lastIndexOf('/') + 1);
+        return entryName.startsWith("__MACOSX/") || base.startsWith(".");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        readerPool.shutdownNow();
+        parsePool.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger ids = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, name + "-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package careercompassai.CareerCompassAI.service;
+
+import java.time.Instant;
+
+/**
+ * ✅ Published by JobSkillService every time the job dataset is (re)loaded
+ */
+public record JobDatasetReloadedEvent(int jobCount, Instant loadedAt) {
+}
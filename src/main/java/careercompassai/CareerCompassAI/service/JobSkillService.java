@@ -1,121 +1,400 @@
 package careercompassai.CareerCompassAI.service;
 
+import careercompassai.CareerCompassAI.dataset.JobDataset;
+import careercompassai.CareerCompassAI.dataset.JobSkillIndex;
+import careercompassai.CareerCompassAI.dataset.JobSkillSnapshot;
+import careercompassai.CareerCompassAI.dataset.JobSkillStore;
+import careercompassai.CareerCompassAI.dataset.MappedCsvReader;
+import careercompassai.CareerCompassAI.dataset.SkillCanonicalizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * ✅ JobSkillService
+ * - Loads the job dataset (binary snapshot, else the LinkedIn CSVs) into an
+ *   immutable {@link JobDataset}: store, role index, canonical roles and their vectors together
+ * - Skill spellings are merged into canonical skills right after the CSV parse
+ *   ({@link SkillCanonicalizer}); the snapshot stores the canonical vocabulary
+ * - reload() rebuilds on a background thread and publishes the new version with a
+ *   single atomic swap; readers never block and keep the version they already hold
+ * - With careercompass.data.watch=true, changes to the CSVs trigger a debounced reload
+ * - Metrics: dataset.reload (duration by source/outcome), dataset.version, dataset.jobs,
+ *   dataset.roles, dataset.skills
+ */
 @Service
 public class JobSkillService {
 
-    private final List<Map<String, String>> jobSkillList = new ArrayList<>();
+    private static final Logger log = LoggerFactory.getLogger(JobSkillService.class);
+
+    private static final int TOP_SKILLS_LIMIT = 10;
+    private static final String JOB_FILE = "linkedin_job_postings.csv";
+    private static final String SKILL_FILE = "job_skills.csv";
+    /** Bump when the CSV join or the title filter changes what a parse stores. */
+    private static final int INGEST_REVISION = 1;
+    /** Snapshot header tag: a snapshot written by a build that ingests differently is re-parsed. */
+    private static final String ALGORITHM = "ingest/" + INGEST_REVISION + ";" + SkillCanonicalizer.fingerprint();
+
+    /** Tech posting waiting to be joined with its skills row. */
+    private record Posting(String title, int postedDay) {
+    }
+
+    /** Posting joined with its skills row. */
+    private record Linked(String link, Posting posting, String skills) {
+    }
+
+    @Value("${careercompass.data.dir:src/main/resources/static/data}")
+    private String dataDir = "src/main/resources/static/data";
+
+    @Value("${careercompass.data.snapshot:}")
+    private String snapshotFile = "";
+
+    @Value("${careercompass.data.snapshot-enabled:true}")
+    private boolean snapshotEnabled = true;
+
+    @Value("${careercompass.data.watch:false}")
+    private boolean watch = false;
+
+    @Value("${careercompass.data.watch-debounce:10s}")
+    private Duration watchDebounce = Duration.ofSeconds(10);
+
+    @Autowired(required = false)
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<JobDataset> current =
+            new AtomicReference<>(JobDataset.of(0, JobSkillStore.builder().build()));
+    private final AtomicReference<CompletableFuture<JobDataset>> pendingReload = new AtomicReference<>();
+    private final ScheduledExecutorService reloadExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "dataset-reload");
+        t.setDaemon(true);
+        return t;
+    });
+    private ScheduledFuture<?> scheduledReload;
+    private WatchService watchService;
 
     @PostConstruct
     public void loadJobSkills() {
-        String jobFile = "src/main/resources/static/data/linkedin_job_postings.csv";
-        String skillFile = "src/main/resources/static/data/job_skills.csv";
-
-        System.out.println("📂 Loading job data and skills...");
-
-        Map<String, String> jobTitles = new HashMap<>();
-        Map<String, String> jobSkills = new HashMap<>();
-
-        // Step 1: Load job titles
-        try (BufferedReader br = new BufferedReader(new FileReader(jobFile, StandardCharsets.UTF_8))) {
-            br.readLine(); // skip header
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] v = parseCsvLine(line);
-                if (v.length < 6) continue;
-                String link = clean(v[0]);
-                String title = clean(v[5]).toLowerCase();
-
-                // ✅ Only keep tech-related jobs
-                if (title.contains("software") || title.contains("developer") || title.contains("engineer")
-                        || title.contains("data") || title.contains("cyber") || title.contains("security")
-                        || title.contains("cloud") || title.contains("ai") || title.contains("ml")
-                        || title.contains("devops") || title.contains("analyst")) {
-                    jobTitles.put(link, title);
+        if (meterRegistry != null) {
+            Gauge.builder("dataset.version", current, c -> c.get().version())
+                    .description("Version of the published job dataset").register(meterRegistry);
+            Gauge.builder("dataset.jobs", current, c -> c.get().store().size())
+                    .description("Jobs in the published job dataset").register(meterRegistry);
+            Gauge.builder("dataset.roles", current, c -> c.get().roleClusters().size())
+                    .description("Canonical roles in the published job dataset").register(meterRegistry);
+            Gauge.builder("dataset.skills", current, c -> c.get().store().getSkills().size())
+                    .description("Distinct skills in the published job dataset").register(meterRegistry);
+        }
+
+        publish(load());
+        if (watch) startWatching();
+    }
+
+    /**
+     * ✅ Rebuild the dataset off-thread and publish it; concurrent calls share one reload.
+     * A reload that comes back empty keeps the current dataset.
+     */
+    public CompletableFuture<JobDataset> reload() {
+        CompletableFuture<JobDataset> created = new CompletableFuture<>();
+        CompletableFuture<JobDataset> running = pendingReload.compareAndExchange(null, created);
+        if (running != null) return running;
+
+        reloadExecutor.execute(() -> {
+            JobDataset published = null;
+            Throwable failure = null;
+            try {
+                JobSkillStore store = load();
+                if (store.isEmpty() && !current.get().store().isEmpty()) {
+                    log.warn("Reload produced no jobs; keeping dataset v{}", current.get().version());
+                    published = current.get();
+                } else {
+                    published = publish(store);
                 }
+            } catch (Throwable t) {
+                failure = t;
+            }
+            pendingReload.set(null);
+            if (failure == null) created.complete(published);
+            else created.completeExceptionally(failure);
+        });
+        return created;
+    }
+
+    /**
+     * ✅ Build a store from the snapshot or the CSVs; touches no published state
+     */
+    private JobSkillStore load() {
+        Path jobFile = Path.of(dataDir, JOB_FILE);
+        Path skillFile = Path.of(dataDir, SKILL_FILE);
+        Path snapshot = snapshotFile.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "careercompass", "job_skills.snapshot")
+                : Path.of(snapshotFile);
+
+        long start = System.nanoTime();
+        String outcome = "success";
+        String source = "snapshot";
+        List<JobSkillSnapshot.SourceFingerprint> sources = fingerprint(jobFile, skillFile);
+
+        try {
+            // ✅ Fast path: reuse the binary snapshot when it was built from these exact CSVs
+            JobSkillStore store = null;
+            try {
+                if (snapshotEnabled) store = JobSkillSnapshot.read(snapshot, ALGORITHM, sources);
+            } catch (IOException e) {
+                log.warn("Could not read snapshot {}: {}", snapshot, e.getMessage());
             }
-            System.out.println("✅ Loaded " + jobTitles.size() + " tech job titles.");
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
 
-        // Step 2: Load job skills
-        try (BufferedReader br = new BufferedReader(new FileReader(skillFile, StandardCharsets.UTF_8))) {
-            br.readLine(); // skip header
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] v = parseCsvLine(line);
-                if (v.length < 2) continue;
-                String link = clean(v[0]);
-                String skills = clean(v[1]);
-                if (!skills.isBlank()) {
-                    jobSkills.put(link, skills.toLowerCase());
+            if (store != null) {
+                log.info("Loaded job snapshot {} in {} ms", snapshot, (System.nanoTime() - start) / 1_000_000);
+                return store;
+            }
+
+            source = "csv";
+            store = canonicalizeSkills(parseCsvDataset(jobFile, skillFile));
+            if (snapshotEnabled && !sources.isEmpty() && !store.isEmpty()) {
+                try {
+                    JobSkillSnapshot.write(snapshot, store, ALGORITHM, sources);
+                    log.info("Wrote job snapshot {}", snapshot);
+                } catch (IOException e) {
+                    log.warn("Could not write snapshot {}: {}", snapshot, e.getMessage());
                 }
             }
-            System.out.println("✅ Loaded " + jobSkills.size() + " job skills.");
-        } catch (Exception e) {
-            e.printStackTrace();
+            return store;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            if (meterRegistry != null) {
+                Timer.builder("dataset.reload")
+                        .description("Time to load and index the job dataset")
+                        .tag("source", source)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
         }
+    }
+
+    /**
+     * ✅ Derive index + matcher, then swap the whole dataset in at once
+     */
+    private JobDataset publish(JobSkillStore store) {
+        JobDataset dataset = JobDataset.of(versions.incrementAndGet(), store);
+        current.set(dataset);
 
-        // Step 3: Merge matched links
-        int count = 0;
-        for (String link : jobTitles.keySet()) {
-            if (jobSkills.containsKey(link)) {
-                Map<String, String> job = new HashMap<>();
-                job.put("role", jobTitles.get(link));
-                job.put("skills", jobSkills.get(link));
-                jobSkillList.add(job);
-                count++;
+        log.info("Published dataset v{}: {} tech jobs, {} roles ({} canonical), {} distinct skills",
+                dataset.version(), store.size(), dataset.index().roleCount(), dataset.roleClusters().size(),
+                dataset.index().getSkills().size());
+        if (log.isDebugEnabled()) {
+            for (int job = 0; job < Math.min(3, store.size()); job++) {
+                log.debug("Sample job: role={} skills={}", store.role(job), store.skills(job));
             }
         }
 
-        System.out.println("✅ Linked " + count + " tech jobs with skills!");
-        jobSkillList.stream().limit(3).forEach(j ->
-                System.out.println("ROLE: " + j.get("role") + "\nSKILLS: " + j.get("skills") + "\n---"));
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new JobDatasetReloadedEvent(store.size(), dataset.loadedAt()));
+        }
+        return dataset;
+    }
+
+    /**
+     * ✅ Watch the data directory; a burst of CSV writes becomes one reload
+     */
+    private void startWatching() {
+        Path dir = Path.of(dataDir);
+        try {
+            watchService = dir.getFileSystem().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.warn("Cannot watch {} for dataset changes: {}", dir, e.getMessage());
+            return;
+        }
+
+        Thread watcher = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey key = watchService.take();
+                    boolean sourceChanged = key.pollEvents().stream()
+                            .map(event -> String.valueOf(event.context()))
+                            .anyMatch(name -> name.equals(JOB_FILE) || name.equals(SKILL_FILE));
+                    key.reset();
+                    if (sourceChanged) scheduleReload();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                // shutting down
+            }
+        }, "dataset-watch");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching {} for dataset changes", dir);
     }
 
-    private String[] parseCsvLine(String line) {
-        List<String> result = new ArrayList<>();
-        boolean insideQuote = false;
-        StringBuilder sb = new StringBuilder();
+    private synchronized void scheduleReload() {
+        if (scheduledReload != null) scheduledReload.cancel(false);
+        scheduledReload = reloadExecutor.schedule(this::reload, watchDebounce.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (watchService != null) watchService.close();
+        reloadExecutor.shutdownNow();
+    }
 
-        for (char c : line.toCharArray()) {
-            if (c == '"') {
-                insideQuote = !insideQuote;
-            } else if (c == ',' && !insideQuote) {
-                result.add(sb.toString());
-                sb.setLength(0);
-            } else {
-                sb.append(c);
+    /**
+     * ✅ Fingerprints of both CSVs, or an empty list when they are not on disk
+     * (a snapshot-only deployment then accepts whatever snapshot it finds)
+     */
+    private static List<JobSkillSnapshot.SourceFingerprint> fingerprint(Path... files) {
+        List<JobSkillSnapshot.SourceFingerprint> sources = new ArrayList<>();
+        try {
+            for (Path file : files) {
+                if (!Files.isRegularFile(file)) return List.of();
+                sources.add(JobSkillSnapshot.SourceFingerprint.of(file));
             }
+        } catch (IOException e) {
+            return List.of();
         }
-        result.add(sb.toString());
-        return result.toArray(new String[0]);
+        return sources;
     }
 
-    private String clean(String text) {
-        return text == null ? "" : text.replaceAll("\"", "").trim();
+    /**
+     * ✅ Slow path: parse and join both CSVs into a columnar store. A link listed more than
+     * once keeps its last row in each file, in the position of its first skills row
+     */
+    static JobSkillStore parseCsvDataset(Path jobFile, Path skillFile) {
+        log.info("Loading job data and skills from {}", jobFile.getParent());
+
+        // Step 1: Load tech job titles (link → title, first_seen)
+        Map<String, Posting> jobTitles = new ConcurrentHashMap<>();
+        try {
+            MappedCsvReader.Stats stats = new MappedCsvReader(jobFile).read(chunk -> {
+                Map<String, Posting> titles = new HashMap<>();
+                while (chunk.next()) {
+                    if (chunk.fieldCount() < 6) continue;
+                    String title = chunk.field(5).toLowerCase();
+                    if (isTechTitle(title)) {
+                        int postedDay = chunk.fieldCount() > 8 ? parseDay(chunk.field(8)) : JobSkillStore.UNKNOWN_DAY;
+                        titles.put(chunk.field(0), new Posting(title, postedDay));
+                    }
+                }
+                return titles;
+            }, jobTitles::putAll);
+            log.info("Loaded {} tech job titles {}", jobTitles.size(), describe(stats));
+        } catch (Exception e) {
+            log.error("Could not read {}", jobFile, e);
+        }
+
+        // Step 2: Stream job skills and join each row against the title map as it is parsed;
+        // chunks arrive in file order, so a later row for the same link replaces the earlier one
+        Map<String, Linked> joined = new LinkedHashMap<>();
+        try {
+            MappedCsvReader.Stats stats = new MappedCsvReader(skillFile).read(chunk -> {
+                List<Linked> linked = new ArrayList<>();
+                while (chunk.next()) {
+                    if (chunk.fieldCount() < 2) continue;
+                    String skills = chunk.field(1);
+                    if (skills.isBlank()) continue;
+
+                    String link = chunk.field(0);
+                    Posting posting = jobTitles.get(link);
+                    if (posting != null) {
+                        linked.add(new Linked(link, posting, skills.toLowerCase()));
+                    }
+                }
+                return linked;
+            }, linked -> linked.forEach(job -> joined.put(job.link(), job)));
+            log.info("Joined job skills {}", describe(stats));
+        } catch (Exception e) {
+            log.error("Could not read {}", skillFile, e);
+        }
+
+        JobSkillStore.Builder storeBuilder = JobSkillStore.builder();
+        joined.values().forEach(job -> storeBuilder.add(job.posting().title(), job.skills(),
+                job.posting().postedDay(), job.link()));
+        return storeBuilder.build();
+    }
+
+    /**
+     * ✅ Fold spelling variants of a skill into one skill ID before anything is derived
+     */
+    private static JobSkillStore canonicalizeSkills(JobSkillStore store) {
+        long start = System.nanoTime();
+        JobSkillStore canonical = SkillCanonicalizer.canonicalize(store);
+        log.info("Merged {} skill spellings into {} skills in {} ms", store.getSkills().size(),
+                canonical.getSkills().size(), (System.nanoTime() - start) / 1_000_000);
+        return canonical;
+    }
+
+    /**
+     * ✅ Only keep tech-related jobs (bump INGEST_REVISION when the keywords change)
+     */
+    private static boolean isTechTitle(String title) {
+        return title.contains("software") || title.contains("developer") || title.contains("engineer")
+                || title.contains("data") || title.contains("cyber") || title.contains("security")
+                || title.contains("cloud") || title.contains("ai") || title.contains("ml")
+                || title.contains("devops") || title.contains("analyst");
+    }
+
+    /**
+     * ✅ first_seen ("2024-01-12", optionally followed by a time) → epoch day
+     */
+    private static int parseDay(String firstSeen) {
+        if (firstSeen.length() < 10) return JobSkillStore.UNKNOWN_DAY;
+        try {
+            return (int) LocalDate.parse(firstSeen.substring(0, 10)).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return JobSkillStore.UNKNOWN_DAY;
+        }
     }
 
+    private static String describe(MappedCsvReader.Stats stats) {
+        return String.format("(%,d rows in %d ms, %,.0f rows/sec, %.1f MB/s)",
+                stats.rows(), stats.nanos() / 1_000_000, stats.rowsPerSecond(), stats.megabytesPerSecond());
+    }
+
+    /**
+     * ✅ Most frequent skills across roles whose title contains the given role
+     */
     public List<String> getTopSkillsForRole(String role) {
-        return jobSkillList.stream()
-                .filter(j -> j.get("role").contains(role.toLowerCase()))
-                .flatMap(j -> Arrays.stream(j.get("skills").split(",")))
-                .map(String::trim)
-                .filter(s -> !s.isBlank())
-                .distinct()
-                .limit(10)
-                .toList();
-    }
-
-    public List<Map<String, String>> getAllJobs() {
-        return jobSkillList;
+        return current.get().index().topSkillsForRole(role, TOP_SKILLS_LIMIT);
+    }
+
+    /**
+     * ✅ The currently published dataset; hold on to it for a consistent view
+     */
+    public JobDataset getDataset() {
+        return current.get();
+    }
+
+    public JobSkillIndex getJobSkillIndex() {
+        return current.get().index();
+    }
+
+    /**
+     * ✅ Read-only columnar view over every linked job
+     */
+    public JobSkillStore getAllJobs() {
+        return current.get().store();
     }
 }
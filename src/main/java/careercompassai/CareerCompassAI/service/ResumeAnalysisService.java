@@ -0,0 +1,332 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.dataset.JobDataset;
+import careercompassai.CareerCompassAI.dataset.JobSkillStore;
+import careercompassai.CareerCompassAI.dataset.RoleClusters;
+import careercompassai.CareerCompassAI.dataset.RoleSkillVectors;
+import careercompassai.CareerCompassAI.model.ExtractedResume;
+import careercompassai.CareerCompassAI.model.ResumeAnalysis;
+import careercompassai.CareerCompassAI.model.SkillGap;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.tika.exception.TikaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * ✅ ResumeAnalysisService
+ * - The resume analysis steps, split into parse → extract → score so they can
+ *   run inline (upload page) or as separate pipeline stages
+ * - Each stage has its own timer: resume.parse (ResumeParsingService), resume.extract,
+ *   resume.score (role matching, per call) and resume.gap
+ * - Uploads the container has already spooled (multipart parts) are hashed first, so a
+ *   resume seen before skips Tika; a raw request body can only be hashed as it is read,
+ *   so it is streamed straight into the parser (ResumeUploadStream): sniffed,
+ *   size-limited and hashed on the way in, never held in memory as a whole;
+ *   refusals are counted in resume.upload.rejected by reason
+ * - Every fresh analysis of an upload goes to the analysis history (AnalysisHistoryService,
+ *   written behind the request); re-fetching a cached one does not
+ */
+@Service
+public class ResumeAnalysisService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeAnalysisService.class);
+    private static final int PREVIEW_LENGTH = 400;
+    static final String NO_SKILLS = "No clear skills detected";
+
+    // Checked in order: the first keyword contained in the role title wins
+    private static final List<Map.Entry<String, List<String>>> CERTIFICATIONS = List.of(
+            Map.entry("data analyst", List.of("Google Data Analytics", "Tableau Specialist", "Microsoft Power BI")),
+            Map.entry("security", List.of("CompTIA Security+", "CEH", "Cisco CyberOps Associate")),
+            Map.entry("devops", List.of("Docker Certified Associate", "Kubernetes CKA", "AWS DevOps Engineer")),
+            Map.entry("cloud", List.of("AWS Cloud Practitioner", "Azure Fundamentals", "Google Cloud Associate")),
+            Map.entry("machine learning", List.of("TensorFlow Developer", "Azure AI Engineer", "DeepLearning.AI")),
+            Map.entry("ai engineer", List.of("TensorFlow Developer", "Azure AI Engineer", "DeepLearning.AI")),
+            Map.entry("web developer", List.of("FreeCodeCamp Frontend Cert", "Meta React Developer", "Google Web Dev")),
+            Map.entry("software", List.of("Oracle Java SE", "Spring Professional", "AWS Developer"))
+    );
+
+    /**
+     * ✅ An analysis plus the resume's cache key (SHA-256 of the upload)
+     */
+    public record KeyedAnalysis(String key, ResumeAnalysis analysis) {
+    }
+
+    /**
+     * ✅ An upload's text and skills plus its cache key (SHA-256 of the upload)
+     */
+    public record KeyedExtraction(String key, ExtractedResume extracted) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final long maxUploadBytes;
+    private final int topRoles;
+
+    private final JobSkillService jobSkillService;
+    private final SkillGapService skillGapService;
+    private final SkillExtractionService skillExtractionService;
+    private final ResumeParsingService resumeParsingService;
+    private final ResumeCacheService resumeCacheService;
+    private final AnalysisHistoryService analysisHistoryService;
+    private final Timer extractTimer;
+    private final Timer scoreTimer;
+    private final Timer gapTimer;
+
+    public ResumeAnalysisService(MeterRegistry meterRegistry, JobSkillService jobSkillService,
+                                 SkillGapService skillGapService,
+                                 SkillExtractionService skillExtractionService,
+                                 ResumeParsingService resumeParsingService,
+                                 ResumeCacheService resumeCacheService,
+                                 AnalysisHistoryService analysisHistoryService,
+                                 @Value("${careercompass.upload.max-size:50MB}") DataSize maxUploadSize,
+                                 @Value("${careercompass.role-fit.top-roles:5}") int topRoles) {
+        this.meterRegistry = meterRegistry;
+        this.maxUploadBytes = maxUploadSize.toBytes();
+        this.topRoles = topRoles;
+        this.jobSkillService = jobSkillService;
+        this.skillGapService = skillGapService;
+        this.skillExtractionService = skillExtractionService;
+        this.resumeParsingService = resumeParsingService;
+        this.resumeCacheService = resumeCacheService;
+        this.analysisHistoryService = analysisHistoryService;
+        this.extractTimer = Timer.builder("resume.extract")
+                .description("Time to find skills in resume text").register(meterRegistry);
+        this.scoreTimer = Timer.builder("resume.score")
+                .description("Time to rank roles for a batch of resumes").register(meterRegistry);
+        this.gapTimer = Timer.builder("resume.gap")
+                .description("Time to compute one resume's skill gap").register(meterRegistry);
+    }
+
+    /**
+     * ✅ Run every step on an upload that can be re-read (a spooled multipart part)
+     */
+    public KeyedAnalysis analyze(InputStreamSource upload) throws IOException, TikaException {
+        return scored(extract(upload));
+    }
+
+    /**
+     * ✅ Run every step on an upload read straight from its stream (always closed)
+     */
+    public KeyedAnalysis analyze(InputStream body) throws IOException, TikaException {
+        return scored(extract(body));
+    }
+
+    /**
+     * ✅ Steps 1-2 on an upload that can be re-read: a first pass only sniffs, size-checks and
+     * hashes it, and Tika runs on a second read only when the resume is not cached yet
+     */
+    public KeyedExtraction extract(InputStreamSource upload) throws IOException, TikaException {
+        String key;
+        try {
+            ResumeUploadStream hashed = ResumeUploadStream.open(upload.getInputStream(), maxUploadBytes);
+            hashed.close(); // drains into the digest without parsing
+            key = hashed.key();
+        } catch (ResumeUploadStream.RejectedException e) {
+            throw rejected(e);
+        }
+
+        ExtractedResume extracted = resumeCacheService.get(key);
+        if (extracted != null) {
+            log.debug("Resume cache hit {} (spooled)", key.substring(0, 12));
+            return new KeyedExtraction(key, extracted);
+        }
+        return extract(upload.getInputStream());
+    }
+
+    /**
+     * ✅ Steps 1-2 on an upload read straight from its stream (always closed); the parser
+     * consumes the bytes as they arrive, and a resume seen before reuses its skills
+     */
+    public KeyedExtraction extract(InputStream body) throws IOException, TikaException {
+        ResumeUploadStream upload;
+        String resumeText;
+        try {
+            upload = ResumeUploadStream.open(body, maxUploadBytes);
+        } catch (ResumeUploadStream.RejectedException e) {
+            throw rejected(e);
+        }
+        try {
+            resumeText = parse(upload); // closing drains and hashes whatever the parser skipped
+        } catch (IOException | TikaException | RuntimeException e) {
+            upload.abandon(); // a timed-out parse must not keep reading a finished request
+            // Parsers may wrap the size-limit failure raised by the stream
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ResumeUploadStream.RejectedException rejection) throw rejected(rejection);
+            }
+            throw e;
+        }
+
+        String key = upload.key();
+        ExtractedResume extracted = resumeCacheService.get(key);
+        if (extracted == null) {
+            extracted = new ExtractedResume(resumeText, extractSkills(resumeText));
+            resumeCacheService.put(key, extracted);
+        } else {
+            log.debug("Resume cache hit {} (streamed)", key.substring(0, 12));
+        }
+        return new KeyedExtraction(key, extracted);
+    }
+
+    private KeyedAnalysis scored(KeyedExtraction upload) {
+        ExtractedResume extracted = upload.extracted();
+        ResumeAnalysis analysis = score(extracted.text(), extracted.skills());
+        analysisHistoryService.record(upload.key(), analysis);
+        return new KeyedAnalysis(upload.key(), analysis);
+    }
+
+    public long maxUploadBytes() {
+        return maxUploadBytes;
+    }
+
+    /**
+     * ✅ Re-score a resume that is still in the resume cache; null when it is not
+     */
+    public ResumeAnalysis analyzeCached(String key) {
+        ExtractedResume extracted = resumeCacheService.get(key);
+        return extracted == null ? null : score(extracted.text(), extracted.skills());
+    }
+
+    /**
+     * ✅ Step 1: Extract text from resume
+     */
+    public String parse(InputStream resume) throws IOException, TikaException {
+        return text(resumeParsingService.parse(resume));
+    }
+
+    /**
+     * ✅ Step 1 on the calling thread, without the parser's own pool and timeout
+     * (for the resume pipeline, whose parse stage has both)
+     */
+    public String parseInline(InputStream resume) throws IOException, TikaException {
+        return text(resumeParsingService.parseInline(resume));
+    }
+
+    private static String text(ResumeParsingService.ParsedResume parsed) {
+        if (parsed.truncated()) {
+            log.info("Resume text truncated ({}, {} bytes)", parsed.mimeType(), parsed.bytesIn());
+        }
+        return parsed.text();
+    }
+
+    /**
+     * ✅ Step 2: Extract detected skills (single pass over the dataset vocabulary)
+     */
+    public List<String> extractSkills(String resumeText) {
+        List<String> foundSkills = extractTimer.record(() -> skillExtractionService.extractSkills(resumeText));
+        log.debug("Extracted skills: {}", foundSkills);
+        return foundSkills.isEmpty() ? List.of(NO_SKILLS) : foundSkills;
+    }
+
+    /**
+     * ✅ Steps 3-6: match scores, best-fit role, skill gap and certifications
+     */
+    public ResumeAnalysis score(String resumeText, List<String> extractedSkills) {
+        return scoreAll(List.of(new ExtractedResume(resumeText, extractedSkills))).get(0);
+    }
+
+    /**
+     * ✅ Steps 3-6 for a batch, against one dataset version
+     */
+    public List<ResumeAnalysis> scoreAll(List<ExtractedResume> resumes) {
+        // One dataset version for the whole analysis, even if a reload lands meanwhile
+        JobDataset dataset = jobSkillService.getDataset();
+
+        // ✅ Step 3: Compare with job dataset
+        List<Map<String, Double>> allScores = scoreTimer.record(() -> calculateMatchScores(dataset, resumes));
+
+        List<ResumeAnalysis> analyses = new ArrayList<>(resumes.size());
+        for (int i = 0; i < resumes.size(); i++) {
+            analyses.add(toAnalysis(dataset, resumes.get(i), allScores.get(i)));
+        }
+        return analyses;
+    }
+
+    private ResumeAnalysis toAnalysis(JobDataset dataset, ExtractedResume resume, Map<String, Double> matchScores) {
+        String resumeText = resume.text();
+        List<String> extractedSkills = resume.skills();
+
+        // ✅ Step 4: Pick the best-fit role
+        String bestFitRole = matchScores.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse("No matching role found");
+
+        double bestScore = matchScores.getOrDefault(bestFitRole, 0.0);
+
+        // ✅ Step 5: Skill Gap Analysis against the role's precomputed profile
+        int bestRoleId = dataset.roleClusters().canonicalId(bestFitRole);
+        SkillGap gapAnalysis = gapTimer.record(() -> skillGapService.analyzeSkillGap(dataset, bestRoleId, extractedSkills));
+
+        // ✅ Step 6: Recommend certifications
+        List<String> certifications = recommendCertifications(bestFitRole);
+
+        ResumeAnalysis analysis = new ResumeAnalysis(
+                resumeText.length() > PREVIEW_LENGTH ? resumeText.substring(0, PREVIEW_LENGTH) + "..." : resumeText,
+                extractedSkills,
+                matchScores,
+                bestFitRole,
+                bestScore,
+                gapAnalysis.matched(),
+                gapAnalysis.missing(),
+                gapAnalysis.suggested(),
+                certifications);
+
+        log.debug("Best fit role: {} ({}%), matched={} missing={} suggested={}", bestFitRole, bestScore,
+                analysis.matchedSkills(), analysis.missingSkills(), analysis.suggestedSkills());
+        return analysis;
+    }
+
+    /**
+     * ✅ Compare each resume's skills with the tech job dataset
+     */
+    private List<Map<String, Double>> calculateMatchScores(JobDataset dataset, List<ExtractedResume> resumes) {
+        JobSkillStore allJobs = dataset.store();
+        if (allJobs.isEmpty()) {
+            log.warn("No jobs found in dataset");
+            return Collections.nCopies(resumes.size(), Map.of("No Data", 0.0));
+        }
+
+        // Cosine against each canonical role's TF-IDF profile (a few hundred roles, not every posting)
+        RoleClusters roles = dataset.roleClusters();
+        List<Map<String, Double>> allScores = new ArrayList<>(resumes.size());
+        for (ExtractedResume resume : resumes) {
+            List<RoleSkillVectors.RoleScore> ranked = dataset.roleVectors().topRoles(resume.skills(), topRoles);
+            if (ranked.isEmpty()) {
+                log.debug("No matching roles found; possible skill mismatch");
+                allScores.add(Map.of("No matching role found", 0.0));
+                continue;
+            }
+
+            Map<String, Double> matchScores = new LinkedHashMap<>();
+            for (RoleSkillVectors.RoleScore roleScore : ranked) {
+                matchScores.put(roles.name(roleScore.roleId()), Math.round(roleScore.score() * 100) / 100.0);
+            }
+            allScores.add(matchScores);
+        }
+        return allScores;
+    }
+
+    private ResumeUploadStream.RejectedException rejected(ResumeUploadStream.RejectedException e) {
+        meterRegistry.counter("resume.upload.rejected", "reason", e.reason().name().toLowerCase()).increment();
+        return e;
+    }
+
+    /**
+     * ✅ Recommend relevant certifications based on role
+     */
+    private static List<String> recommendCertifications(String role) {
+        String title = role.toLowerCase();
+        for (Map.Entry<String, List<String>> entry : CERTIFICATIONS) {
+            if (title.contains(entry.getKey())) return entry.getValue();
+        }
+        return List.of("Explore general tech certifications on Coursera or Udemy");
+    }
+}
@@ -0,0 +1,120 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.model.ExtractedResume;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ✅ ResumeCacheService
+ * - Remembers parsed text + extracted skills per upload, keyed by SHA-256 of the bytes,
+ *   so re-uploading the same resume skips Tika and skill extraction
+ * - Bounded by entry count and total cached characters (LRU), entries expire after ttl
+ * - Cleared whenever the job dataset is reloaded (the skill vocabulary may have changed)
+ * - Metrics: resume.cache.requests (result=hit|miss), resume.cache.evictions, resume.cache.size
+ */
+@Service
+public class ResumeCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeCacheService.class);
+
+    private record Entry(ExtractedResume resume, long expiresAtNanos, long chars) {
+    }
+
+    private final int maxEntries;
+    private final long maxTotalChars;
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalChars;
+
+    public ResumeCacheService(MeterRegistry meterRegistry,
+                              @Value("${careercompass.cache.resume.max-entries:256}") int maxEntries,
+                              @Value("${careercompass.cache.resume.max-total-chars:20000000}") long maxTotalChars,
+                              @Value("${careercompass.cache.resume.ttl:1h}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.maxTotalChars = maxTotalChars;
+        this.ttlNanos = ttl.toNanos();
+        this.hits = meterRegistry.counter("resume.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("resume.cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("resume.cache.evictions");
+        Gauge.builder("resume.cache.size", this, ResumeCacheService::size).register(meterRegistry);
+    }
+
+    /**
+     * ✅ Cache key for an upload: hex SHA-256 of its bytes
+     */
+    public static String key(byte[] resume) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(resume));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every JVM", e);
+        }
+    }
+
+    /**
+     * ✅ Cached extraction for this key, or null on a miss (expired entries count as misses)
+     */
+    public synchronized ExtractedResume get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAtNanos - System.nanoTime() <= 0) {
+            remove(key);
+            entry = null;
+        }
+        (entry == null ? misses : hits).increment();
+        return entry == null ? null : entry.resume;
+    }
+
+    public synchronized void put(String key, ExtractedResume resume) {
+        long chars = resume.text().length();
+        if (chars > maxTotalChars) return;
+
+        remove(key);
+        entries.put(key, new Entry(resume, System.nanoTime() + ttlNanos, chars));
+        totalChars += chars;
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalChars > maxTotalChars) && eldest.hasNext()) {
+            totalChars -= eldest.next().getValue().chars;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalChars = 0;
+    }
+
+    @EventListener
+    public void onDatasetReloaded(JobDatasetReloadedEvent event) {
+        clear();
+        log.info("Resume cache cleared after dataset reload ({} jobs)", event.jobCount());
+    }
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) totalChars -= removed.chars;
+    }
+}
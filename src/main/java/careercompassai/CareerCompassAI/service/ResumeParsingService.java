@@ -0,0 +1,164 @@
+package careercompassai.CareerCompassAI.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.exception.WriteLimitReachedException;
+import org.apache.tika.io.TikaInputStream;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.apache.tika.sax.BodyContentHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ ResumeParsingService
+ * - One shared, thread-safe AutoDetectParser instead of a new Tika per upload
+ * - Text is streamed into a bounded handler that stops after maxChars
+ *   (the truncated prefix is kept, the rest of the document is never buffered)
+ * - Each parse runs on a bounded pool and is interrupted after parseTimeout;
+ *   parseInline is for callers that already run parses on their own pool with their own deadline
+ * - Metrics per MIME type: resume.parse (latency), resume.parse.bytes.in,
+ *   resume.parse.chars.out
+ */
+@Service
+public class ResumeParsingService {
+
+    /**
+     * ✅ Extracted text plus what the parser learned about the document
+     */
+    public record ParsedResume(String text, String mimeType, long bytesIn, boolean truncated) {
+    }
+
+    private final Parser parser = new AutoDetectParser();
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService parsePool;
+    private final int maxChars;
+    private final Duration parseTimeout;
+
+    public ResumeParsingService(MeterRegistry meterRegistry,
+                                @Value("${careercompass.parser.max-chars:500000}") int maxChars,
+                                @Value("${careercompass.parser.timeout:20s}") Duration parseTimeout,
+                                @Value("${careercompass.parser.threads:4}") int threads,
+                                @Value("${careercompass.parser.queue-capacity:64}") int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.maxChars = maxChars;
+        this.parseTimeout = parseTimeout;
+
+        AtomicInteger ids = new AtomicInteger();
+        this.parsePool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread t = new Thread(r, "tika-parse-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * ✅ Parse a document; always closes the stream
+     */
+    public ParsedResume parse(InputStream resume) throws IOException, TikaException {
+        Future<ParsedResume> future;
+        try {
+            future = parsePool.submit(() -> parseNow(resume));
+        } catch (RejectedExecutionException e) {
+            resume.close();
+            throw new IOException("Too many resumes being parsed, try again shortly", e);
+        }
+
+        try {
+            return future.get(parseTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            meterRegistry.counter("resume.parse.timeouts").increment();
+            throw new TikaException("Resume parsing timed out after " + parseTimeout.toSeconds() + "s");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing resume", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof TikaException tika) throw tika;
+            throw new TikaException("Resume parsing failed", cause);
+        }
+    }
+
+    /**
+     * ✅ Parse on the calling thread with no timeout of its own; always closes the stream
+     */
+    public ParsedResume parseInline(InputStream resume) throws IOException, TikaException {
+        return parseNow(resume);
+    }
+
+    private ParsedResume parseNow(InputStream resume) throws IOException, TikaException {
+        long start = System.nanoTime();
+        Metadata metadata = new Metadata();
+        BodyContentHandler handler = new BodyContentHandler(maxChars);
+        boolean truncated = false;
+        long bytesIn;
+        String outcome = "success";
+
+        try (TikaInputStream stream = TikaInputStream.get(resume)) {
+            try {
+                parser.parse(stream, handler, metadata, new ParseContext());
+            } catch (Exception e) {
+                if (!WriteLimitReachedException.isWriteLimitReached(e)) {
+                    outcome = "error";
+                    if (e instanceof IOException io) throw io;
+                    throw e instanceof TikaException tika ? tika : new TikaException("Resume parsing failed", e);
+                }
+                truncated = true; // keep the first maxChars characters
+            } finally {
+                bytesIn = stream.getPosition();
+                record(mimeType(metadata), outcome, start, bytesIn, handler.toString().length());
+            }
+        }
+
+        return new ParsedResume(handler.toString(), mimeType(metadata), bytesIn, truncated);
+    }
+
+    private void record(String mimeType, String outcome, long startNanos, long bytesIn, int charsOut) {
+        Timer.builder("resume.parse")
+                .description("Resume text extraction latency")
+                .tag("mime", mimeType)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("resume.parse.bytes.in")
+                .baseUnit("bytes")
+                .tag("mime", mimeType)
+                .register(meterRegistry)
+                .record(bytesIn);
+        DistributionSummary.builder("resume.parse.chars.out")
+                .baseUnit("chars")
+                .tag("mime", mimeType)
+                .register(meterRegistry)
+                .record(charsOut);
+    }
+
+    /**
+     * Detected type without parameters ("text/plain; charset=UTF-8" → "text/plain").
+     */
+    private static String mimeType(Metadata metadata) {
+        String type = metadata.get(Metadata.CONTENT_TYPE);
+        if (type == null) return "unknown";
+        int semicolon = type.indexOf(';');
+        return (semicolon < 0 ? type : type.substring(0, semicolon)).trim();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        parsePool.shutdownNow();
+    }
+}
@@ -0,0 +1,335 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.model.ExtractedResume;
+import careercompassai.CareerCompassAI.model.ResumeAnalysis;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * ✅ ResumePipelineService
+ * - Runs resume analysis off the servlet thread as three stages
+ *   (parse → extract → score), each on its own bounded pool with its own timeout
+ * - Admission is capped: once maxInFlight resumes are queued or running, new
+ *   submissions are rejected immediately instead of piling up. A job keeps its slot
+ *   until its last worker has really stopped, even after it timed out
+ * - Tika runs on the parse stage's own worker, so the parse-timeout is the only deadline
+ * - Finished jobs stay pollable for resultTtl, then are evicted
+ * - A resume already in the resume cache goes straight to scoring
+ * - Finished analyses are recorded in the analysis history (AnalysisHistoryService)
+ * - Stage-change listeners never run on a stage worker: each subscriber is drained
+ *   on a separate event pool, so a slow subscriber (an SSE client) cannot stall a stage
+ *
+ * Runs on bounded platform-thread pools: the project targets Java 17, where
+ * virtual threads are not available. Swapping the thread factories for
+ * Thread.ofVirtual() is all that changes on 21+.
+ */
+@Service
+public class ResumePipelineService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumePipelineService.class);
+
+    public enum Stage { QUEUED, PARSING, EXTRACTING, SCORING, DONE, FAILED }
+
+    /**
+     * ✅ Thrown when the pipeline is full; callers should answer 503 + Retry-After
+     */
+    public static class PipelineBusyException extends RuntimeException {
+        public PipelineBusyException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * ✅ One submitted resume; fields are updated by the stage threads
+     */
+    public static final class PipelineJob {
+
+        private final String id = UUID.randomUUID().toString();
+        private final Instant createdAt = Instant.now();
+        private final Executor events;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile Stage stage = Stage.QUEUED;
+        private volatile ResumeAnalysis result;
+        private volatile String error;
+        private volatile Instant finishedAt;
+        // Settles once the worker of the job's latest stage has stopped (or will never start)
+        private volatile CompletableFuture<Void> worker = CompletableFuture.completedFuture(null);
+
+        private PipelineJob(Executor events) {
+            this.events = events;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public Stage getStage() {
+            return stage;
+        }
+
+        public ResumeAnalysis getResult() {
+            return result;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isFinished() {
+            return stage == Stage.DONE || stage == Stage.FAILED;
+        }
+
+        /**
+         * ✅ Called (off the stage threads) after stage changes; called once if the job is already
+         * finished. A subscriber that falls behind sees only the latest stage, never a stale one.
+         * Run the returned action to unsubscribe.
+         */
+        public Runnable onUpdate(Consumer<PipelineJob> listener) {
+            Subscriber subscriber = new Subscriber(listener);
+            subscribers.add(subscriber);
+            if (isFinished()) subscriber.changed();
+            return () -> subscribers.remove(subscriber);
+        }
+
+        private void moveTo(Stage next) {
+            stage = next;
+            subscribers.forEach(Subscriber::changed);
+            // Finished jobs change no more; drop the subscribers rather than hold them until eviction
+            if (isFinished()) subscribers.clear();
+        }
+
+        /**
+         * One listener; at most one drain of it is queued or running at a time, and a change
+         * arriving meanwhile is folded into that drain (listeners read the job's current state).
+         */
+        private final class Subscriber {
+
+            private final Consumer<PipelineJob> listener;
+            private final AtomicBoolean pending = new AtomicBoolean();
+            private final AtomicBoolean draining = new AtomicBoolean();
+
+            private Subscriber(Consumer<PipelineJob> listener) {
+                this.listener = listener;
+            }
+
+            private void changed() {
+                pending.set(true);
+                if (draining.compareAndSet(false, true)) events.execute(this::drain);
+            }
+
+            private void drain() {
+                do {
+                    while (pending.getAndSet(false)) {
+                        try {
+                            listener.accept(PipelineJob.this);
+                        } catch (RuntimeException e) {
+                            log.debug("Pipeline listener failed for job {}: {}", id, e.toString());
+                        }
+                    }
+                    draining.set(false);
+                    // A change that landed after the last check but before the flag was cleared
+                } while (pending.get() && draining.compareAndSet(false, true));
+            }
+        }
+    }
+
+    private final ResumeAnalysisService resumeAnalysisService;
+    private final ResumeCacheService resumeCacheService;
+    private final AnalysisHistoryService analysisHistoryService;
+    private final Map<String, PipelineJob> jobs = new ConcurrentHashMap<>();
+    private final Semaphore admission;
+    private final ThreadPoolExecutor parsePool;
+    private final ThreadPoolExecutor extractPool;
+    private final ThreadPoolExecutor scorePool;
+    private final ExecutorService eventPool;
+    private final ScheduledExecutorService timer;
+    private final Duration parseTimeout;
+    private final Duration extractTimeout;
+    private final Duration scoreTimeout;
+    private final Duration resultTtl;
+
+    public ResumePipelineService(ResumeAnalysisService resumeAnalysisService,
+                                 ResumeCacheService resumeCacheService,
+                                 AnalysisHistoryService analysisHistoryService,
+                                 @Value("${careercompass.pipeline.max-in-flight:64}") int maxInFlight,
+                                 @Value("${careercompass.pipeline.parse-threads:2}") int parseThreads,
+                                 @Value("${careercompass.pipeline.extract-threads:2}") int extractThreads,
+                                 @Value("${careercompass.pipeline.score-threads:2}") int scoreThreads,
+                                 @Value("${careercompass.pipeline.event-threads:2}") int eventThreads,
+                                 @Value("${careercompass.pipeline.parse-timeout:30s}") Duration parseTimeout,
+                                 @Value("${careercompass.pipeline.extract-timeout:5s}") Duration extractTimeout,
+                                 @Value("${careercompass.pipeline.score-timeout:5s}") Duration scoreTimeout,
+                                 @Value("${careercompass.pipeline.result-ttl:10m}") Duration resultTtl) {
+        this.resumeAnalysisService = resumeAnalysisService;
+        this.resumeCacheService = resumeCacheService;
+        this.analysisHistoryService = analysisHistoryService;
+        this.admission = new Semaphore(maxInFlight);
+        // Every queue can hold all admitted jobs, so later stages never reject
+        this.parsePool = boundedPool("resume-parse", parseThreads, maxInFlight);
+        this.extractPool = boundedPool("resume-extract", extractThreads, maxInFlight);
+        this.scorePool = boundedPool("resume-score", scoreThreads, maxInFlight);
+        // Unbounded queue, but each subscriber has at most one drain queued: it holds one task per open subscriber
+        this.eventPool = Executors.newFixedThreadPool(eventThreads, daemonThreads("resume-pipeline-events"));
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("resume-pipeline-timer"));
+        this.parseTimeout = parseTimeout;
+        this.extractTimeout = extractTimeout;
+        this.scoreTimeout = scoreTimeout;
+        this.resultTtl = resultTtl;
+
+        long sweepMillis = Math.max(1_000, resultTtl.toMillis() / 4);
+        timer.scheduleWithFixedDelay(this::evictExpired, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * ✅ Queue a resume for analysis; returns immediately with a pollable job
+     */
+    public PipelineJob submit(byte[] resume) {
+        if (!admission.tryAcquire()) {
+            throw new PipelineBusyException("Resume pipeline is at capacity, try again shortly");
+        }
+
+        String cacheKey;
+        ExtractedResume cached;
+        try {
+            cacheKey = ResumeCacheService.key(resume);
+            cached = resumeCacheService.get(cacheKey);
+        } catch (RuntimeException e) {
+            admission.release(); // no job was created to give the slot back
+            throw e;
+        }
+
+        PipelineJob job = new PipelineJob(eventPool);
+        jobs.put(job.id, job);
+        CompletableFuture<ExtractedResume> extraction = cached != null
+                ? CompletableFuture.completedFuture(cached)
+                : stage(job, Stage.PARSING, parsePool, parseTimeout,
+                        () -> resumeAnalysisService.parseInline(new ByteArrayInputStream(resume)))
+                .thenCompose(text -> stage(job, Stage.EXTRACTING, extractPool, extractTimeout, () -> {
+                    ExtractedResume extracted = new ExtractedResume(text, resumeAnalysisService.extractSkills(text));
+                    resumeCacheService.put(cacheKey, extracted);
+                    return extracted;
+                }));
+
+        extraction
+                .thenCompose(extracted -> stage(job, Stage.SCORING, scorePool, scoreTimeout,
+                        () -> resumeAnalysisService.score(extracted.text(), extracted.skills())))
+                .whenComplete((analysis, failure) -> {
+                    // A timed-out stage may still be running (Tika does not always notice interrupts)
+                    job.worker.whenComplete((v, e) -> admission.release());
+                    job.finishedAt = Instant.now();
+                    if (failure == null) {
+                        analysisHistoryService.record(cacheKey, analysis);
+                        job.result = analysis;
+                        job.moveTo(Stage.DONE);
+                    } else {
+                        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                                ? failure.getCause() : failure;
+                        job.error = cause instanceof TimeoutException
+                                ? "Timed out while " + job.stage.name().toLowerCase()
+                                : String.valueOf(cause.getMessage());
+                        job.moveTo(Stage.FAILED);
+                    }
+                });
+        return job;
+    }
+
+    public PipelineJob get(String id) {
+        return jobs.get(id);
+    }
+
+    public int inFlight() {
+        return parsePool.getActiveCount() + parsePool.getQueue().size()
+                + extractPool.getActiveCount() + extractPool.getQueue().size()
+                + scorePool.getActiveCount() + scorePool.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        parsePool.shutdownNow();
+        extractPool.shutdownNow();
+        scorePool.shutdownNow();
+        eventPool.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface StageWork<T> {
+        T run() throws Exception;
+    }
+
+    /**
+     * Run one stage on its pool. The timeout starts when the stage is handed to
+     * the pool (queue wait counts) and interrupts the worker if it fires; job.worker
+     * settles when the worker has returned, or at the timeout if it never started.
+     */
+    private <T> CompletableFuture<T> stage(PipelineJob job, Stage stage, ExecutorService pool,
+                                           Duration timeout, StageWork<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Void> worker = new CompletableFuture<>();
+        AtomicBoolean claimed = new AtomicBoolean(); // by the worker starting, or by the timeout first
+        job.worker = worker;
+        Future<?> task;
+        try {
+            task = pool.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) return;
+                try {
+                    job.moveTo(stage);
+                    result.complete(work.run());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                } finally {
+                    worker.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            worker.complete(null);
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        ScheduledFuture<?> deadline = timer.schedule(() -> {
+            if (!result.completeExceptionally(new TimeoutException())) return;
+            if (claimed.compareAndSet(false, true)) worker.complete(null); // still queued: it will not run
+            task.cancel(true);
+        }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        result.whenComplete((v, e) -> deadline.cancel(false));
+        return result;
+    }
+
+    private void evictExpired() {
+        Instant cutoff = Instant.now().minus(resultTtl);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static ThreadPoolExecutor boundedPool(String name, int threads, int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads(name), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger ids = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, name + "-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
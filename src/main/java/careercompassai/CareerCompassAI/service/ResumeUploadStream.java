@@ -0,0 +1,209 @@
+package careercompassai.CareerCompassAI.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * ✅ ResumeUploadStream
+ * - Wraps an upload on its way into the parser without copying it anywhere: the format is
+ *   sniffed from the first bytes, the size limit is enforced as bytes arrive and everything
+ *   read is SHA-256 hashed (the same key ResumeCacheService.key gives for the bytes)
+ * - Only formats a resume comes in are let through (PDF, OOXML/ODF zip, legacy Office,
+ *   RTF, text/HTML); anything else is rejected before the parser sees a byte
+ * - Closing drains what the parser left unread, so the hash always covers the whole upload
+ */
+public final class ResumeUploadStream extends FilterInputStream {
+
+    /**
+     * ✅ Upload refused before or while streaming; the reason maps to an HTTP status upstream
+     */
+    public static final class RejectedException extends IOException {
+
+        public enum Reason { EMPTY, UNSUPPORTED_TYPE, TOO_LARGE }
+
+        private final Reason reason;
+
+        RejectedException(Reason reason, String message) {
+            super(message);
+            this.reason = reason;
+        }
+
+        public Reason reason() {
+            return reason;
+        }
+    }
+
+    static final int SNIFF_BYTES = 512;
+
+    private static final byte[] PDF = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] ZIP = {'P', 'K', 3, 4};
+    private static final byte[] OLE2 = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+    private static final byte[] RTF = {'{', '\\', 'r', 't', 'f'};
+
+    private final MessageDigest digest;
+    private final long maxBytes;
+    private final String mimeType;
+    private long bytesRead;
+    private String key;
+    private volatile boolean abandoned;
+
+    private ResumeUploadStream(InputStream in, String mimeType, long maxBytes) {
+        super(in);
+        this.mimeType = mimeType;
+        this.maxBytes = maxBytes;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every JVM", e);
+        }
+    }
+
+    /**
+     * ✅ Sniff the upload's format from its first bytes (pushed back, not consumed);
+     * closes the body and throws RejectedException when it is empty or not a document
+     */
+    public static ResumeUploadStream open(InputStream body, long maxBytes) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(body, SNIFF_BYTES);
+        try {
+            byte[] head = in.readNBytes(SNIFF_BYTES);
+            String mimeType = sniff(head);
+            if (head.length == 0) {
+                throw new RejectedException(RejectedException.Reason.EMPTY, "Please upload a resume file!");
+            }
+            if (mimeType == null) {
+                throw new RejectedException(RejectedException.Reason.UNSUPPORTED_TYPE,
+                        "Unsupported file type: upload a PDF, Word, RTF or text resume");
+            }
+            in.unread(head);
+            return new ResumeUploadStream(in, mimeType, maxBytes);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * ✅ Format from the magic bytes, or null when it is not one a resume comes in
+     */
+    static String sniff(byte[] head) {
+        if (startsWith(head, PDF)) return "application/pdf";
+        if (startsWith(head, ZIP)) return "application/zip";
+        if (startsWith(head, OLE2)) return "application/x-tika-msoffice";
+        if (startsWith(head, RTF)) return "application/rtf";
+        if (head.length >= 2 && ((head[0] == (byte) 0xFE && head[1] == (byte) 0xFF)
+                || (head[0] == (byte) 0xFF && head[1] == (byte) 0xFE))) {
+            return "text/plain"; // UTF-16 with BOM
+        }
+        for (byte b : head) {
+            // Control bytes other than whitespace (and ESC, seen in pasted terminal text) mean binary
+            if ((b >= 0 && b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f' && b != 0x1B) || b == 0x7F) {
+                return null;
+            }
+        }
+        return "text/plain";
+    }
+
+    public String mimeType() {
+        return mimeType;
+    }
+
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * ✅ Hex SHA-256 of the whole upload; only known once the stream has been closed
+     */
+    public String key() {
+        if (key == null) throw new IllegalStateException("Upload not fully read yet");
+        return key;
+    }
+
+    /**
+     * ✅ Stop reading for good (request gone, parse timed out): later reads fail, close does not drain
+     */
+    public void abandon() {
+        abandoned = true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        ensureReadable();
+        int b = in.read();
+        if (b >= 0) {
+            count(1);
+            digest.update((byte) b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureReadable();
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            count(n);
+            digest.update(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes still belong in the hash
+        byte[] buffer = new byte[(int) Math.min(n, 8_192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read < 0) break;
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (key == null && !abandoned) {
+                byte[] buffer = new byte[8_192];
+                while (read(buffer, 0, buffer.length) >= 0) {
+                    // drain into the digest
+                }
+                key = HexFormat.of().formatHex(digest.digest());
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    private void ensureReadable() throws IOException {
+        if (abandoned) throw new IOException("Upload abandoned");
+    }
+
+    private void count(int n) throws RejectedException {
+        bytesRead += n;
+        if (bytesRead > maxBytes) {
+            abandoned = true;
+            throw new RejectedException(RejectedException.Reason.TOO_LARGE,
+                    "Resume is larger than " + (maxBytes >= 1 << 20 ? (maxBytes >> 20) + " MB" : maxBytes + " bytes"));
+        }
+    }
+
+    private static boolean startsWith(byte[] head, byte[] magic) {
+        if (head.length < magic.length) return false;
+        for (int i = 0; i < magic.length; i++) {
+            if (head[i] != magic[i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.dataset.JobDataset;
+import careercompassai.CareerCompassAI.dataset.JobSkillStore;
+import careercompassai.CareerCompassAI.dataset.SimilarJobIndex;
+import careercompassai.CareerCompassAI.model.SimilarJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ✅ SimilarJobService
+ * - The actual postings whose skill sets are closest to a resume's (Jaccard), answered from
+ *   the dataset's MinHash-LSH index ({@link SimilarJobIndex}) instead of a scan of every job
+ * - bands (how many of the index's hashes are probed) and candidates (how many jobs are
+ *   re-scored exactly) trade recall for latency; defaults come from careercompass.similar-jobs.*
+ *   and a request may override them up to fixed caps
+ * - Metrics: resume.similar
+ */
+@Service
+public class SimilarJobService {
+
+    static final int MAX_LIMIT = 100;
+    static final int MAX_CANDIDATES = 50_000;
+
+    private final JobSkillService jobSkillService;
+    private final int defaultLimit;
+    private final int defaultBands;
+    private final int defaultCandidates;
+    private final Timer similarTimer;
+
+    public SimilarJobService(MeterRegistry meterRegistry, JobSkillService jobSkillService,
+                             @Value("${careercompass.similar-jobs.limit:20}") int defaultLimit,
+                             @Value("${careercompass.similar-jobs.bands:32}") int defaultBands,
+                             @Value("${careercompass.similar-jobs.candidates:5000}") int defaultCandidates) {
+        this.jobSkillService = jobSkillService;
+        this.defaultLimit = defaultLimit;
+        this.defaultBands = defaultBands;
+        this.defaultCandidates = defaultCandidates;
+        this.similarTimer = Timer.builder("resume.similar")
+                .description("Time to find the postings most similar to a resume").register(meterRegistry);
+    }
+
+    /**
+     * ✅ Most similar postings first; null parameters fall back to the configured defaults
+     */
+    public List<SimilarJob> similarJobs(List<String> skills, Integer limit, Integer bands, Integer candidates) {
+        int k = Math.min(limit != null ? limit : defaultLimit, MAX_LIMIT);
+        int probed = Math.min(bands != null ? bands : defaultBands, SimilarJobIndex.BANDS);
+        int rescored = Math.min(candidates != null ? candidates : defaultCandidates, MAX_CANDIDATES);
+
+        // One dataset version for the query and the postings it names
+        JobDataset dataset = jobSkillService.getDataset();
+        return similarTimer.record(() -> {
+            SimilarJobIndex index = dataset.similarJobs();
+            int[] query = index.encode(skills);
+            List<SimilarJob> jobs = new ArrayList<>();
+            for (SimilarJobIndex.Neighbour neighbour : index.nearest(query, k, probed, rescored)) {
+                jobs.add(toSimilarJob(dataset.store(), query, neighbour));
+            }
+            return jobs;
+        });
+    }
+
+    private static SimilarJob toSimilarJob(JobSkillStore store, int[] query, SimilarJobIndex.Neighbour neighbour) {
+        int job = neighbour.job();
+        List<String> matched = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (int k = store.skillStart(job); k < store.skillEnd(job); k++) {
+            int skill = store.skillIdAt(k);
+            (Arrays.binarySearch(query, skill) >= 0 ? matched : missing).add(store.getSkills().name(skill));
+        }
+        int day = store.postedDay(job);
+        return new SimilarJob(store.role(job), store.link(job),
+                day == JobSkillStore.UNKNOWN_DAY ? null : LocalDate.ofEpochDay(day),
+                Math.round(neighbour.similarity() * 10_000) / 100.0, matched, missing);
+    }
+}
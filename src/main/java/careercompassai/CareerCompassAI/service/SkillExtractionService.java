@@ -0,0 +1,130 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.dataset.JobSkillStore;
+import careercompassai.CareerCompassAI.dataset.SkillAutomaton;
+import careercompassai.CareerCompassAI.dataset.SkillCanonicalizer;
+import careercompassai.CareerCompassAI.dataset.StringDictionary;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ SkillExtractionService
+ * - Builds a single-pass Aho–Corasick extractor from the loaded job dataset's
+ *   skill vocabulary, plus a small seed list and common aliases
+ * - Every spelling the dataset merged into a canonical skill is a pattern too, and all
+ *   matches (seeds and aliases included) are reported under the canonical name, so the
+ *   extracted skills are the same IDs the matchers and profiles use
+ * - Per-resume cost is linear in the text length, however large the vocabulary
+ * - Rebuilt (and swapped in) whenever the job dataset is reloaded
+ */
+@Service
+public class SkillExtractionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillExtractionService.class);
+
+    /**
+     * ✅ Always recognised, even when the dataset is missing or does not mention them
+     */
+    private static final List<String> SEED_SKILLS = List.of(
+            "python", "java", "c", "c++", "c#", "sql", "aws", "docker", "kubernetes", "linux",
+            "cybersecurity", "networking", "data analysis", "machine learning", "ai", "cloud",
+            "devops", "react", "javascript", "spring", "git", "html", "css", "nodejs", "api",
+            "powerbi", "excel", "tableau", "mongodb"
+    );
+
+    /**
+     * ✅ Alternative spellings → the skill they should be reported as
+     */
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("k8s", "kubernetes"),
+            Map.entry("js", "javascript"),
+            Map.entry("golang", "go"),
+            Map.entry("postgres", "postgresql"),
+            Map.entry("node.js", "nodejs"),
+            Map.entry("node js", "nodejs"),
+            Map.entry("power bi", "powerbi"),
+            Map.entry("ml", "machine learning"),
+            Map.entry("artificial intelligence", "ai"),
+            Map.entry("amazon web services", "aws"),
+            Map.entry("springboot", "spring boot"),
+            Map.entry("reactjs", "react"),
+            Map.entry("react.js", "react")
+    );
+
+    /** Dataset skills longer than this are free-text phrases, not skills. */
+    private static final int MAX_SKILL_LENGTH = 50;
+
+    private final JobSkillService jobSkillService;
+
+    @Value("${careercompass.skills.min-postings:2}")
+    private int minPostings = 2;
+
+    private volatile SkillAutomaton automaton = SkillAutomaton.builder().build();
+
+    public SkillExtractionService(JobSkillService jobSkillService) {
+        this.jobSkillService = jobSkillService;
+    }
+
+    @PostConstruct
+    public void buildDictionary() {
+        long start = System.nanoTime();
+        SkillAutomaton.Builder builder = SkillAutomaton.builder();
+
+        // ✅ Every dataset skill listed by at least minPostings postings, then its other spellings;
+        // added first so the dataset's own spelling wins over an alias
+        JobSkillStore jobs = jobSkillService.getAllJobs();
+        StringDictionary skills = jobs.getSkills();
+        int[] frequencies = jobs.skillDocumentFrequencies();
+        for (int skillId = 0; skillId < frequencies.length; skillId++) {
+            String skill = skills.name(skillId);
+            if (frequencies[skillId] >= minPostings && skill.length() <= MAX_SKILL_LENGTH) {
+                builder.add(skill);
+            }
+        }
+        skills.aliases().forEach((spelling, skillId) -> {
+            if (frequencies[skillId] >= minPostings && spelling.length() <= MAX_SKILL_LENGTH) {
+                builder.add(spelling, skills.name(skillId));
+            }
+        });
+        SEED_SKILLS.forEach(skill -> builder.add(skill, canonicalName(skills, skill)));
+        ALIASES.forEach((alias, skill) -> builder.add(alias, canonicalName(skills, skill)));
+
+        automaton = builder.build();
+        log.info("Skill extractor ready: {} patterns in {} ms", automaton.patternCount(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * ✅ Runs before other reload listeners, so the resume cache is cleared only
+     * once the new vocabulary is in place
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDatasetReloaded(JobDatasetReloadedEvent event) {
+        buildDictionary();
+    }
+
+    /**
+     * ✅ The dataset's name for a skill in any spelling, else the skill as given
+     */
+    private static String canonicalName(StringDictionary skills, String skill) {
+        int id = SkillCanonicalizer.lookup(skills, skill);
+        return id == StringDictionary.MISSING ? skill : skills.name(id);
+    }
+
+    /**
+     * ✅ Distinct skills mentioned in the text, in order of first appearance
+     */
+    public List<String> extractSkills(String text) {
+        return automaton.extract(text);
+    }
+}
@@ -1,5 +1,10 @@
 package careercompassai.CareerCompassAI.service;
 
+import careercompassai.CareerCompassAI.dataset.JobDataset;
+import careercompassai.CareerCompassAI.dataset.RoleSkillProfiles;
+import careercompassai.CareerCompassAI.dataset.SpaceSavingSketch;
+import careercompassai.CareerCompassAI.model.SkillGap;
+import careercompassai.CareerCompassAI.model.SkillTrend;
 import org.springframework.stereotype.Service;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -7,48 +12,60 @@ import java.util.stream.Collectors;
 @Service
 public class SkillGapService {
 
+    // Only used when the dataset is empty and nothing can be computed
+    private static final List<String> DEFAULT_TRENDING = List.of(
+        "kubernetes", "terraform", "azure", "gcp", "prompt engineering",
+        "data visualization", "microservices", "system design", "flask",
+        "rest api", "cyber defense", "penetration testing", "ai ethics"
+    );
+
+    private final TrendService trendService;
+
+    public SkillGapService(TrendService trendService) {
+        this.trendService = trendService;
+    }
+
     /**
-     * ✅ Compare user's skills with job-required skills.
-     * Returns matched, missing, and suggested skills.
+     * ✅ Compare user's skills with the canonical role's precomputed skill profile.
+     * Returns matched and missing skills (most demanded first) and suggested skills.
      */
-    public Map<String, List<String>> analyzeSkillGap(List<String> userSkills, List<String> jobSkills) {
-        Set<String> userSet = new HashSet<>(userSkills.stream().map(String::toLowerCase).collect(Collectors.toSet()));
-        Set<String> jobSet = new HashSet<>(jobSkills.stream().map(String::toLowerCase).collect(Collectors.toSet()));
+    public SkillGap analyzeSkillGap(JobDataset dataset, int roleId, List<String> userSkills) {
+        RoleSkillProfiles profiles = dataset.roleProfiles();
+        int[] resume = profiles.encode(userSkills);
 
-        // Matched and missing skills
-        List<String> matched = jobSet.stream()
-                .filter(userSet::contains)
-                .collect(Collectors.toList());
-
-        List<String> missing = jobSet.stream()
-                .filter(skill -> !userSet.contains(skill))
-                .collect(Collectors.toList());
+        // Matched and missing skills: the role profile looked up in the resume's sorted skill IDs
+        RoleSkillProfiles.Gap gap = profiles.gap(roleId, resume);
 
         // Suggested new trending skills
-        List<String> suggested = suggestNewSkills(userSet);
+        List<String> suggested = suggestNewSkills(profiles, resume, userSkills);
 
-        // Build response map
-        Map<String, List<String>> result = new HashMap<>();
-        result.put("matched", matched);
-        result.put("missing", missing);
-        result.put("suggested", suggested);
-
-        return result;
+        return new SkillGap(gap.matched(), gap.missing(), suggested);
     }
 
     /**
-     * ✅ Suggest trending skills the user doesn't already have
+     * ✅ Suggest trending skills the user doesn't already have:
+     * fastest-rising this week vs last month first, then the most demanded overall
      */
-    private List<String> suggestNewSkills(Set<String> userSkills) {
-        List<String> trending = List.of(
-            "kubernetes", "terraform", "azure", "gcp", "prompt engineering",
-            "data visualization", "microservices", "system design", "flask",
-            "rest api", "cyber defense", "penetration testing", "ai ethics"
-        );
+    private List<String> suggestNewSkills(RoleSkillProfiles profiles, int[] resume, List<String> userSkills) {
+        // One immutable snapshot: no lock, no ranking per analysis
+        TrendService.TrendSnapshot trends = trendService.snapshot();
+        Set<String> trending = new LinkedHashSet<>();
+        for (SkillTrend rising : trends.risingSkills()) {
+            trending.add(rising.skill());
+        }
+        for (SpaceSavingSketch.HeavyHitter top : trends.topSkills()) {
+            trending.add(top.key());
+        }
+        if (trending.isEmpty()) trending.addAll(DEFAULT_TRENDING);
+
+        // The defaults may be outside the dataset's vocabulary, so also compare by name
+        Set<String> userSet = userSkills.stream()
+                .map(skill -> skill.trim().toLowerCase())
+                .collect(Collectors.toSet());
 
         // Always suggest at least 3-5 trending skills the user doesn't have
         return trending.stream()
-                .filter(skill -> !userSkills.contains(skill))
+                .filter(skill -> !profiles.contains(resume, skill) && !userSet.contains(skill.trim().toLowerCase()))
                 .limit(5)
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,343 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.dataset.JobSkillStore;
+import careercompassai.CareerCompassAI.dataset.SkillDemandWindows;
+import careercompassai.CareerCompassAI.dataset.SpaceSavingSketch;
+import careercompassai.CareerCompassAI.dataset.SpaceSavingSketch.HeavyHitter;
+import careercompassai.CareerCompassAI.dataset.StringDictionary;
+import careercompassai.CareerCompassAI.model.SkillTrend;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * ✅ TrendService
+ * - Title and skill frequencies computed in-process from the loaded job dataset,
+ *   replacing the offline trends.json
+ * - Space-Saving sketches keep memory bounded while new postings keep arriving: a dataset
+ *   reload only records the postings it adds (matched by job link), and recounts from
+ *   scratch only when postings were also dropped (a sketch cannot un-count)
+ * - Readers get an immutable snapshot with its JSON already serialized and an ETag;
+ *   it is re-published lazily, only after something was recorded
+ * - Skill mentions are also bucketed by posting date (daily / weekly rings) to
+ *   answer "rising this week vs last month" without rescanning postings; that default
+ *   ranking is computed once per snapshot, so resume analyses read it without a lock
+ */
+@Service
+public class TrendService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendService.class);
+
+    /** The default "rising" windows (this week vs the four before) and how many skills a snapshot keeps. */
+    public static final int RECENT_DAYS = 7;
+    public static final int BASELINE_DAYS = 28;
+    public static final int RISING_LIMIT = 20;
+
+    /**
+     * ✅ Immutable view of the aggregates; the byte arrays must not be modified
+     */
+    public record TrendSnapshot(
+            long version,
+            long postings,
+            Instant generatedAt,
+            List<HeavyHitter> topTitles,
+            List<HeavyHitter> topSkills,
+            List<SkillTrend> risingSkills,
+            byte[] titlesJson,
+            String titlesEtag,
+            byte[] json,
+            String etag
+    ) {
+    }
+
+    private final JobSkillService jobSkillService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${careercompass.trends.title-capacity:1000}")
+    private int titleCapacity = 1000;
+
+    @Value("${careercompass.trends.skill-capacity:2000}")
+    private int skillCapacity = 2000;
+
+    @Value("${careercompass.trends.top-titles:10}")
+    private int topTitles = 10;
+
+    @Value("${careercompass.trends.top-skills:20}")
+    private int topSkills = 20;
+
+    @Value("${careercompass.trends.daily-slots:120}")
+    private int dailySlots = 120;
+
+    @Value("${careercompass.trends.weekly-slots:104}")
+    private int weeklySlots = 104;
+
+    @Value("${careercompass.trends.min-mentions:5}")
+    private int minMentions = 5;
+
+    // Guarded by this
+    private SpaceSavingSketch titles;
+    private SpaceSavingSketch skills;
+    private long postings;
+    private StringDictionary skillNames;
+    private SkillDemandWindows demand;
+    private long[] ingestedLinks = new long[0]; // sorted link hashes of every counted posting
+
+    private volatile long version;
+    private volatile TrendSnapshot snapshot;
+
+    public TrendService(JobSkillService jobSkillService, ObjectMapper objectMapper) {
+        this.jobSkillService = jobSkillService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * ✅ Recount everything from the current dataset
+     */
+    @PostConstruct
+    public void rebuild() {
+        rebuild(jobSkillService.getAllJobs());
+    }
+
+    void rebuild(JobSkillStore store) {
+        long start = System.nanoTime();
+        SpaceSavingSketch newTitles = new SpaceSavingSketch(titleCapacity);
+        SpaceSavingSketch newSkills = new SpaceSavingSketch(skillCapacity);
+
+        // Own copy of the skill dictionary (same IDs) so new postings can add skills
+        StringDictionary newSkillNames = new StringDictionary();
+        for (int id = 0; id < store.getSkills().size(); id++) {
+            newSkillNames.intern(store.getSkills().name(id));
+        }
+        SkillDemandWindows newDemand = new SkillDemandWindows(dailySlots, weeklySlots, newSkillNames.size());
+        long[] linkHashes = linkHashes(store);
+        Arrays.sort(linkHashes);
+
+        store.forEachJob((job, roleId, skillIds, from, to) -> {
+            newTitles.offer(store.getRoles().name(roleId));
+            for (int k = from; k < to; k++) {
+                newSkills.offer(store.getSkills().name(skillIds[k]));
+            }
+            int postedDay = store.postedDay(job);
+            if (postedDay != JobSkillStore.UNKNOWN_DAY) {
+                newDemand.record(postedDay, skillIds, from, to);
+            }
+        });
+
+        synchronized (this) {
+            titles = newTitles;
+            skills = newSkills;
+            postings = store.size();
+            skillNames = newSkillNames;
+            demand = newDemand;
+            ingestedLinks = linkHashes;
+            version++;
+        }
+        TrendSnapshot published = snapshot();
+        log.info("Trends computed over {} postings in {} ms", published.postings(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    public void onDatasetReloaded(JobDatasetReloadedEvent event) {
+        update(jobSkillService.getAllJobs());
+    }
+
+    /**
+     * Count only the postings the reloaded dataset adds; recount everything when it
+     * also dropped some. Reloads arrive one at a time (one reload thread).
+     */
+    void update(JobSkillStore store) {
+        long[] hashes = linkHashes(store);
+        long[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+
+        // Merge the sorted link multisets: what only the new dataset has was added
+        long[] previous;
+        synchronized (this) {
+            previous = ingestedLinks;
+        }
+        Map<Long, Integer> added = new HashMap<>();
+        int i = 0, j = 0;
+        while (i < previous.length) {
+            if (j == sorted.length || sorted[j] > previous[i]) {
+                log.info("Reloaded dataset dropped postings; recounting trends");
+                rebuild(store);
+                return;
+            }
+            if (sorted[j] == previous[i]) i++;
+            else added.merge(sorted[j], 1, Integer::sum);
+            j++;
+        }
+        for (; j < sorted.length; j++) added.merge(sorted[j], 1, Integer::sum);
+
+        int recorded = 0;
+        for (int job = 0; job < hashes.length && !added.isEmpty(); job++) {
+            Integer left = added.get(hashes[job]);
+            if (left == null) continue;
+            if (left == 1) added.remove(hashes[job]);
+            else added.put(hashes[job], left - 1);
+
+            List<String> postingSkills = new ArrayList<>(store.skillCount(job));
+            for (int k = store.skillStart(job); k < store.skillEnd(job); k++) {
+                postingSkills.add(store.getSkills().name(store.skillIdAt(k)));
+            }
+            int postedDay = store.postedDay(job);
+            recordPosting(store.role(job), postingSkills,
+                    postedDay == JobSkillStore.UNKNOWN_DAY ? null : LocalDate.ofEpochDay(postedDay));
+            recorded++;
+        }
+        synchronized (this) {
+            ingestedLinks = sorted;
+        }
+        log.info("Trends updated with {} new postings", recorded);
+    }
+
+    /**
+     * ✅ Count one newly ingested posting
+     */
+    public void recordPosting(String title, Collection<String> postingSkills) {
+        recordPosting(title, postingSkills, null);
+    }
+
+    /**
+     * ✅ Count one newly ingested posting first seen on postedOn (null when unknown)
+     */
+    public synchronized void recordPosting(String title, Collection<String> postingSkills, LocalDate postedOn) {
+        titles.offer(title.trim().toLowerCase());
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String skill : postingSkills) {
+            distinct.add(skill.trim().toLowerCase());
+        }
+
+        int[] skillIds = new int[distinct.size()];
+        int n = 0;
+        for (String skill : distinct) {
+            skills.offer(skill);
+            skillIds[n++] = skillNames.intern(skill);
+        }
+        if (postedOn != null) {
+            demand.record((int) postedOn.toEpochDay(), skillIds, 0, n);
+        }
+        postings++;
+        version++;
+    }
+
+    /**
+     * ✅ Skills with the strongest growth: last recentDays vs the baselineDays before them.
+     * The default windows come from the snapshot; others are ranked on demand
+     */
+    public List<SkillTrend> risingSkills(int recentDays, int baselineDays, int limit) {
+        if (recentDays == RECENT_DAYS && baselineDays == BASELINE_DAYS && limit <= RISING_LIMIT) {
+            List<SkillTrend> rising = snapshot().risingSkills();
+            return rising.subList(0, Math.min(limit, rising.size()));
+        }
+        return rankRising(recentDays, baselineDays, limit);
+    }
+
+    /**
+     * ✅ Longest recent + baseline span the weekly ring can answer, in days
+     */
+    public int maxWindowDays() {
+        return weeklySlots * 7;
+    }
+
+    private synchronized List<SkillTrend> rankRising(int recentDays, int baselineDays, int limit) {
+        List<SkillTrend> rising = new ArrayList<>();
+        for (SkillDemandWindows.SkillGrowth growth : demand.topMovers(recentDays, baselineDays, minMentions, limit)) {
+            rising.add(toTrend(growth));
+        }
+        return rising;
+    }
+
+    /**
+     * ✅ Growth of one skill, or null if the skill has never been seen
+     */
+    public synchronized SkillTrend skillTrend(String skill, int recentDays, int baselineDays) {
+        int skillId = skillNames.id(skill.trim().toLowerCase());
+        if (skillId == StringDictionary.MISSING) return null;
+        return toTrend(demand.growth(skillId, recentDays, baselineDays));
+    }
+
+    /**
+     * ✅ Latest posting day the demand windows are anchored on, or null without dated postings
+     */
+    public synchronized LocalDate latestPostingDay() {
+        return demand.isEmpty() ? null : LocalDate.ofEpochDay(demand.latestDay());
+    }
+
+    private SkillTrend toTrend(SkillDemandWindows.SkillGrowth growth) {
+        return new SkillTrend(skillNames.name(growth.skillId()), growth.recent(), growth.baseline(),
+                Math.round(growth.growth() * 1000) / 1000.0);
+    }
+
+    /**
+     * ✅ Current aggregates; cheap unless postings were recorded since the last call
+     */
+    public TrendSnapshot snapshot() {
+        TrendSnapshot current = snapshot;
+        if (current != null && current.version() == version) return current;
+        return publish();
+    }
+
+    private synchronized TrendSnapshot publish() {
+        if (snapshot != null && snapshot.version() == version) return snapshot;
+
+        List<HeavyHitter> hotTitles = titles.top(topTitles);
+        List<HeavyHitter> hotSkills = skills.top(topSkills);
+        List<SkillTrend> rising = List.copyOf(rankRising(RECENT_DAYS, BASELINE_DAYS, RISING_LIMIT));
+
+        // Same title → count shape as the old offline trends.json
+        Map<String, Long> titleCounts = new LinkedHashMap<>();
+        hotTitles.forEach(t -> titleCounts.put(t.key(), t.count()));
+
+        Instant generatedAt = Instant.now();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("generatedAt", generatedAt.toString());
+        body.put("postings", postings);
+        body.put("titles", hotTitles);
+        body.put("skills", hotSkills);
+
+        try {
+            byte[] titlesJson = objectMapper.writeValueAsBytes(titleCounts);
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            snapshot = new TrendSnapshot(version, postings, generatedAt, hotTitles, hotSkills, rising,
+                    titlesJson, etag(titlesJson), json, etag(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize trends", e);
+        }
+        return snapshot;
+    }
+
+    private static long[] linkHashes(JobSkillStore store) {
+        long[] hashes = new long[store.size()];
+        for (int job = 0; job < hashes.length; job++) hashes[job] = linkHash(store.link(job));
+        return hashes;
+    }
+
+    /** 64-bit FNV-1a of the link, finalized with a murmur mix; a collision only hides one new posting. */
+    private static long linkHash(String link) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < link.length(); i++) {
+            h = (h ^ link.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        return h ^ (h >>> 33);
+    }
+
+    private static String etag(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+    }
+}
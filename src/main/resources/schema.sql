@@ -0,0 +1,36 @@
+-- Analysis history (AnalysisHistoryRepository). Runs as-is on MySQL and on H2 in MySQL mode;
+-- every statement is idempotent, the script runs on each start.
+
+-- One row per analysis; times are UTC
+CREATE TABLE IF NOT EXISTS resume_analysis (
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    resume_key    CHAR(64)     NOT NULL,
+    analyzed_at   DATETIME(3)  NOT NULL,
+    best_fit_role VARCHAR(255) NOT NULL,
+    best_score    DOUBLE       NOT NULL,
+    skill_count   INT          NOT NULL,
+    INDEX idx_analysis_time (analyzed_at),
+    INDEX idx_analysis_resume (resume_key),
+    -- Covers the per-role aggregate (count, average score) and the role filter on skill aggregates
+    INDEX idx_analysis_role (best_fit_role, best_score)
+) ENGINE = InnoDB;
+
+-- An analysis' skills by kind: 1 extracted, 2 matched, 3 missing, 4 suggested
+CREATE TABLE IF NOT EXISTS analysis_skill (
+    analysis_id BIGINT       NOT NULL,
+    kind        TINYINT      NOT NULL,
+    skill       VARCHAR(255) NOT NULL,
+    PRIMARY KEY (analysis_id, kind, skill),
+    -- Skill aggregates group one kind by skill straight off this index
+    INDEX idx_skill_kind (kind, skill),
+    CONSTRAINT fk_skill_analysis FOREIGN KEY (analysis_id) REFERENCES resume_analysis (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- An analysis' role match scores (top roles only)
+CREATE TABLE IF NOT EXISTS analysis_role_score (
+    analysis_id BIGINT       NOT NULL,
+    role        VARCHAR(255) NOT NULL,
+    score       DOUBLE       NOT NULL,
+    PRIMARY KEY (analysis_id, role),
+    CONSTRAINT fk_score_analysis FOREIGN KEY (analysis_id) REFERENCES resume_analysis (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
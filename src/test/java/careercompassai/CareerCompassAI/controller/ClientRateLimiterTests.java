@@ -0,0 +1,46 @@
+package careercompassai.CareerCompassAI.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientRateLimiterTests {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void allowsBurstThenRefillsAtTheConfiguredRate() {
+		long now = 1_000 * SECOND;
+		ClientRateLimiter limiter = new ClientRateLimiter(3, 60, 100, now);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquire("a", now)).isZero();
+		}
+		long wait = limiter.tryAcquire("a", now);
+		assertThat(wait).isEqualTo(SECOND); // 60 per minute: one token per second
+		assertThat(limiter.tryAcquire("b", now)).isZero(); // other clients are unaffected
+
+		assertThat(limiter.tryAcquire("a", now + wait)).isZero();
+		assertThat(limiter.tryAcquire("a", now + wait)).isPositive();
+		assertThat(limiter.tryAcquire("a", now + 10 * SECOND)).isZero();
+	}
+
+	@Test
+	void dropsRefilledBucketsAndSharesOneBucketBeyondMaxClients() {
+		long now = 1_000 * SECOND;
+		ClientRateLimiter limiter = new ClientRateLimiter(1, 60, 2, now);
+
+		assertThat(limiter.tryAcquire("a", now)).isZero();
+		assertThat(limiter.tryAcquire("b", now)).isZero();
+		// a and b are still limited, so c and d share the overflow bucket
+		assertThat(limiter.tryAcquire("c", now)).isZero();
+		assertThat(limiter.tryAcquire("d", now)).isPositive();
+		assertThat(limiter.clients()).isEqualTo(2);
+
+		// Once a and b have refilled they are dropped and d gets its own bucket
+		assertThat(limiter.tryAcquire("d", now + 2 * SECOND)).isZero();
+		assertThat(limiter.clients()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,51 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSkillSnapshotTests {
+
+	private static final List<JobSkillSnapshot.SourceFingerprint> SOURCES =
+			List.of(new JobSkillSnapshot.SourceFingerprint("job_skills.csv", 42, 1_000));
+
+	@TempDir
+	Path dir;
+
+	private static JobSkillStore store() {
+		return SkillCanonicalizer.canonicalize(JobSkillStore.builder()
+				.add("software engineer", "node.js, nodejs, java", 19_000, "https://example.com/jobs/1")
+				.add("data analyst", "sql, excel", 19_001, "https://example.com/jobs/2")
+				.build());
+	}
+
+	@Test
+	void roundTripsTheStore() throws IOException {
+		Path snapshot = dir.resolve("cache/job_skills.snapshot");
+		JobSkillStore store = store();
+		JobSkillSnapshot.write(snapshot, store, SkillCanonicalizer.fingerprint(), SOURCES);
+
+		JobSkillStore loaded = JobSkillSnapshot.read(snapshot, SkillCanonicalizer.fingerprint(), SOURCES);
+		assertThat(loaded).isNotNull();
+		assertThat(loaded.size()).isEqualTo(2);
+		assertThat(loaded.skills(0)).isEqualTo(store.skills(0));
+		assertThat(loaded.link(1)).isEqualTo("https://example.com/jobs/2");
+		assertThat(SkillCanonicalizer.lookup(loaded.getSkills(), "NodeJS")).isEqualTo(loaded.getSkills().id("node.js"));
+	}
+
+	@Test
+	void isStaleWhenTheAlgorithmOrSourcesDiffer() throws IOException {
+		Path snapshot = dir.resolve("job_skills.snapshot");
+		JobSkillSnapshot.write(snapshot, store(), "canonicalizer/1", SOURCES);
+
+		assertThat(JobSkillSnapshot.read(snapshot, "canonicalizer/2", SOURCES)).isNull();
+		assertThat(JobSkillSnapshot.read(snapshot, "canonicalizer/1",
+				List.of(new JobSkillSnapshot.SourceFingerprint("job_skills.csv", 43, 1_000)))).isNull();
+		assertThat(JobSkillSnapshot.read(snapshot, "canonicalizer/1", List.of())).isNotNull();
+	}
+}
@@ -0,0 +1,53 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedCsvReaderTests {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void readsQuotedMultiLineFieldsAcrossSmallChunks() throws Exception {
+		StringBuilder csv = new StringBuilder("job_link,job_skills\r\n");
+		for (int i = 0; i < 500; i++) {
+			csv.append("https://example.com/").append(i).append(",\"java, sql,\nspring ").append(i).append("\"\r\n");
+		}
+		Path file = dir.resolve("skills.csv");
+		Files.writeString(file, csv, StandardCharsets.UTF_8);
+
+		List<String[]> rows = new ArrayList<>();
+		MappedCsvReader.Stats stats = new MappedCsvReader(file, 64, 4).read(chunk -> {
+			List<String[]> parsed = new ArrayList<>();
+			while (chunk.next()) {
+				parsed.add(new String[]{chunk.field(0), chunk.field(1)});
+			}
+			return parsed;
+		}, rows::addAll);
+
+		assertThat(stats.rows()).isEqualTo(500);
+		assertThat(rows).hasSize(500);
+		assertThat(rows.get(0)).containsExactly("https://example.com/0", "java, sql,\nspring 0");
+		assertThat(rows.get(499)).containsExactly("https://example.com/499", "java, sql,\nspring 499");
+	}
+
+	@Test
+	void handlesEmptyAndHeaderOnlyFiles() throws Exception {
+		Path empty = dir.resolve("empty.csv");
+		Files.writeString(empty, "");
+		Path headerOnly = dir.resolve("header.csv");
+		Files.writeString(headerOnly, "job_link,job_skills\n");
+
+		assertThat(new MappedCsvReader(empty).read(chunk -> null, r -> {}).rows()).isZero();
+		assertThat(new MappedCsvReader(headerOnly).read(chunk -> null, r -> {}).rows()).isZero();
+	}
+}
@@ -0,0 +1,51 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleClustersTests {
+
+	private final JobSkillStore store = JobSkillStore.builder()
+			.add("software engineer", "java")
+			.add("software engineer", "java")
+			.add("sr. software engineer ii", "java, spring")
+			.add("software engineer - backend", "java, sql")
+			.add("Senior SWE (Remote)", "go")
+			.add("data analyst", "sql, excel")
+			.add("jr data analyst", "excel")
+			.add("data engineer", "spark, sql")
+			.build();
+
+	private final RoleClusters clusters = RoleClusters.build(store);
+
+	@Test
+	void stripsSeniorityAbbreviationsAndNoise() {
+		assertThat(RoleClusters.normalize("Sr. Software Engineer II")).isEqualTo("software engineer");
+		assertThat(RoleClusters.normalize("Senior SWE (Remote)")).isEqualTo("software engineer");
+		assertThat(RoleClusters.normalize("ML Eng, Level 3")).isEqualTo("machine learning engineer");
+		assertThat(RoleClusters.normalize("Senior")).isEqualTo("senior");
+	}
+
+	@Test
+	void groupsNearDuplicateTitlesUnderTheMostPostedOne() {
+		int software = clusters.canonicalId(store.getRoles().id("software engineer"));
+
+		assertThat(clusters.canonicalId(store.getRoles().id("sr. software engineer ii"))).isEqualTo(software);
+		assertThat(clusters.canonicalId(store.getRoles().id("software engineer - backend"))).isEqualTo(software);
+		assertThat(clusters.canonicalId("Senior SWE (Remote)")).isEqualTo(software);
+		assertThat(clusters.name(software)).isEqualTo("software engineer");
+		assertThat(store.getRoles().name(clusters.representativeRole(software))).isEqualTo("software engineer");
+	}
+
+	@Test
+	void keepsDistinctRolesApart() {
+		int analyst = clusters.canonicalId("data analyst");
+
+		assertThat(clusters.canonicalId("jr data analyst")).isEqualTo(analyst);
+		assertThat(clusters.canonicalId("data engineer")).isNotEqualTo(analyst)
+				.isNotEqualTo(clusters.canonicalId("software engineer"));
+		assertThat(clusters.size()).isEqualTo(3);
+		assertThat(clusters.canonicalId("astronaut")).isEqualTo(StringDictionary.MISSING);
+	}
+}
@@ -0,0 +1,68 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleSkillProfilesTests {
+
+	private final JobSkillStore store = buildStore();
+
+	private final RoleClusters clusters = RoleClusters.build(store);
+
+	private final RoleSkillProfiles profiles = RoleSkillProfiles.build(store, clusters);
+
+	private static JobSkillStore buildStore() {
+		JobSkillStore.Builder builder = JobSkillStore.builder();
+		for (int i = 0; i < 10; i++) {
+			// sql in every posting, excel in 8, tableau in 3, a one-off skill each
+			String skills = "sql" + (i < 8 ? ", excel" : "") + (i < 3 ? ", tableau" : "") + ", niche" + i;
+			builder.add(i % 2 == 0 ? "data analyst" : "sr. data analyst", skills);
+		}
+		return builder.add("cloud engineer", "aws, docker").build();
+	}
+
+	@Test
+	void profileIsRankedByDemandAndKeepsAtLeastMinSkills() {
+		int analyst = clusters.canonicalId("data analyst");
+
+		// sql, excel and tableau pass 20%; two one-offs fill up to MIN_SKILLS by skill ID
+		assertThat(profiles.requiredSkills(analyst)).containsExactly("sql", "excel", "tableau", "niche0", "niche1");
+	}
+
+	@Test
+	void gapSplitsTheProfileInDemandOrder() {
+		int analyst = clusters.canonicalId("data analyst");
+
+		RoleSkillProfiles.Gap gap = profiles.gap(analyst, profiles.encode(List.of("Tableau", " SQL", "python")));
+
+		assertThat(gap.matched()).containsExactly("sql", "tableau");
+		assertThat(gap.missing()).containsExactly("excel", "niche0", "niche1");
+	}
+
+	@Test
+	void unknownRoleHasNoGap() {
+		RoleSkillProfiles.Gap gap = profiles.gap(StringDictionary.MISSING, profiles.encode(List.of("sql")));
+
+		assertThat(gap.matched()).isEmpty();
+		assertThat(gap.missing()).isEmpty();
+		assertThat(profiles.contains(profiles.encode(List.of("aws")), "aws")).isTrue();
+		assertThat(profiles.contains(profiles.encode(List.of("aws")), "rust")).isFalse();
+		assertThat(profiles.contains(profiles.encode(List.of("aws")), " AWS")).isTrue();
+	}
+
+	@Test
+	void encodesAnyMergedSpelling() {
+		JobSkillStore canonical = SkillCanonicalizer.canonicalize(JobSkillStore.builder()
+				.add("backend developer", "node.js, docker")
+				.add("backend developer", "nodejs, docker")
+				.build());
+		RoleSkillProfiles merged = RoleSkillProfiles.build(canonical, RoleClusters.build(canonical));
+
+		int[] resume = merged.encode(List.of("Node-JS", "NODE.JS"));
+		assertThat(resume).containsExactly(canonical.getSkills().id("node.js"));
+		assertThat(merged.contains(resume, "nodejs")).isTrue();
+	}
+}
@@ -0,0 +1,72 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RoleSkillVectorsTests {
+
+	private final JobSkillStore store = JobSkillStore.builder()
+			.add("data analyst", "sql, excel, tableau, communication")
+			.add("data analyst", "sql, excel, communication")
+			.add("software engineer", "java, spring, sql, communication")
+			.add("cloud engineer", "aws, docker, kubernetes, terraform, communication")
+			.build();
+
+	private final RoleClusters clusters = RoleClusters.build(store);
+
+	private final RoleSkillVectors vectors = RoleSkillVectors.build(store, clusters);
+
+	@Test
+	void commonSkillsWeighLessThanDistinctiveOnes() {
+		int communication = store.getSkills().id("communication");
+		int terraform = store.getSkills().id("terraform");
+
+		assertThat(vectors.idf(communication)).isLessThan(vectors.idf(terraform));
+	}
+
+	@Test
+	void ranksRolesByCosineIgnoringCaseAndUnknownSkills() {
+		List<RoleSkillVectors.RoleScore> top = vectors.topRoles(List.of("SQL", "Excel", "Tableau", "cobol"), 5);
+
+		assertThat(top).extracting(score -> clusters.name(score.roleId()))
+				.containsExactly("data analyst", "software engineer");
+		assertThat(top.get(0).score()).isGreaterThan(top.get(1).score()).isLessThanOrEqualTo(100.0);
+	}
+
+	@Test
+	void matchesAnyMergedSpelling() {
+		JobSkillStore canonical = SkillCanonicalizer.canonicalize(JobSkillStore.builder()
+				.add("backend developer", "node.js, postgresql")
+				.add("backend developer", "nodejs, postgresql")
+				.add("data analyst", "sql, excel")
+				.build());
+		RoleClusters merged = RoleClusters.build(canonical);
+		RoleSkillVectors mergedVectors = RoleSkillVectors.build(canonical, merged);
+
+		List<RoleSkillVectors.RoleScore> top = mergedVectors.topRoles(List.of("Node JS", "PostgreSQL"), 1);
+		assertThat(merged.name(top.get(0).roleId())).isEqualTo("backend developer");
+		assertThat(top.get(0).score()).isCloseTo(100.0, within(0.01));
+	}
+
+	@Test
+	void identicalProfileScoresOneHundred() {
+		List<RoleSkillVectors.RoleScore> top =
+				vectors.topRoles(List.of("aws", "docker", "kubernetes", "terraform", "communication"), 1);
+
+		assertThat(clusters.name(top.get(0).roleId())).isEqualTo("cloud engineer");
+		assertThat(top.get(0).score()).isCloseTo(100.0, within(0.01));
+	}
+
+	@Test
+	void prunesEachRoleToItsStrongestSkills() {
+		RoleSkillVectors pruned = RoleSkillVectors.build(store, clusters, 1);
+
+		// The cloud role keeps one distinctive skill, never the ubiquitous one
+		assertThat(pruned.topRoles(List.of("communication"), 5)).isEmpty();
+		assertThat(pruned.topRoles(List.of("kubernetes", "aws", "docker", "terraform"), 5)).hasSize(1);
+	}
+}
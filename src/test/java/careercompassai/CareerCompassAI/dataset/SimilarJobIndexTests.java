@@ -0,0 +1,66 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimilarJobIndexTests {
+
+	@Test
+	void findsTheClosestPostingsWithTheirLinks() {
+		JobSkillStore store = JobSkillStore.builder()
+				.add("data analyst", "sql, excel, tableau, python", 19_800, "https://example.com/jobs/1")
+				.add("data analyst", "sql, excel", 19_801, "https://example.com/jobs/2")
+				.add("software engineer", "java, spring, sql, docker", 19_802, "https://example.com/jobs/3")
+				.add("cloud engineer", "aws, docker, kubernetes, terraform", 19_803, "https://example.com/jobs/4")
+				.build();
+		SimilarJobIndex index = SimilarJobIndex.build(store);
+
+		int[] query = index.encode(List.of("SQL", "excel", "tableau", "cobol"));
+		List<SimilarJobIndex.Neighbour> nearest = index.nearest(query, 2, SimilarJobIndex.BANDS, 100);
+
+		assertThat(nearest).extracting(SimilarJobIndex.Neighbour::job).containsExactly(0, 1);
+		assertThat(nearest.get(0).similarity()).isEqualTo(0.75);
+		assertThat(store.link(nearest.get(0).job())).isEqualTo("https://example.com/jobs/1");
+		assertThat(index.nearest(index.encode(List.of("cobol")), 5, SimilarJobIndex.BANDS, 100)).isEmpty();
+	}
+
+	@Test
+	void approximateSearchMostlyAgreesWithTheExactOne() {
+		SplittableRandom random = new SplittableRandom(7);
+		JobSkillStore.Builder builder = JobSkillStore.builder();
+		for (int job = 0; job < 5_000; job++) {
+			StringJoiner skills = new StringJoiner(",");
+			int count = 3 + random.nextInt(15);
+			for (int s = 0; s < count; s++) {
+				double u = random.nextDouble();
+				skills.add("skill" + (int) (u * u * 500));
+			}
+			builder.add("role" + random.nextInt(20), skills.toString());
+		}
+		SimilarJobIndex index = SimilarJobIndex.build(builder.build());
+
+		double recall = 0;
+		int queries = 50;
+		for (int q = 0; q < queries; q++) {
+			List<String> resume = new ArrayList<>();
+			for (int s = 0; s < 5 + random.nextInt(10); s++) resume.add("skill" + random.nextInt(100));
+			int[] query = index.encode(resume);
+
+			List<SimilarJobIndex.Neighbour> exact = index.exactNearest(query, 20);
+			// Re-scoring every candidate of every band can only miss jobs no band collides on
+			assertThat(index.nearest(query, 20, SimilarJobIndex.BANDS, 5_000).get(0).similarity())
+					.isEqualTo(exact.get(0).similarity());
+
+			double kth = exact.get(exact.size() - 1).similarity();
+			recall += index.nearest(query, 20, SimilarJobIndex.BANDS, 500).stream()
+					.filter(neighbour -> neighbour.similarity() >= kth).count() / (double) exact.size();
+		}
+		assertThat(recall / queries).isGreaterThan(0.8);
+	}
+}
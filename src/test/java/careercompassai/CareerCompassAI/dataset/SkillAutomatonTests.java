@@ -0,0 +1,27 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillAutomatonTests {
+
+	private final SkillAutomaton automaton = SkillAutomaton.builder()
+			.add("c").add("c++").add("c#").add("ai").add("java").add("javascript")
+			.add("machine learning").add("k8s", "kubernetes")
+			.build();
+
+	@Test
+	void matchesOnlyOnTokenBoundaries() {
+		assertThat(automaton.extract("Data science, mail, Javascript developer"))
+				.containsExactly("javascript");
+		assertThat(automaton.extract("C++ and C# daily; some C too. AI-driven"))
+				.containsExactly("c++", "c#", "c", "ai");
+	}
+
+	@Test
+	void normalizesCaseWhitespaceAndAliases() {
+		assertThat(automaton.extract("MACHINE\n   Learning on K8s"))
+				.containsExactly("machine learning", "kubernetes");
+	}
+}
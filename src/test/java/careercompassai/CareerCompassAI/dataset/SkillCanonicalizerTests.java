@@ -0,0 +1,73 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillCanonicalizerTests {
+
+	private static JobSkillStore store() {
+		JobSkillStore.Builder builder = JobSkillStore.builder();
+		for (int i = 0; i < 8; i++) builder.add("software engineer", "node.js, kubernetes, mysql, python3");
+		builder.add("software engineer", "nodejs, node.js, kubernates")
+				.add("backend engineer", "Node JS, mssql, python2")
+				.add("backend engineer", "power bi, mssql")
+				.add("data analyst", "powerbi, power bi");
+		return builder.build();
+	}
+
+	@Test
+	void mergesSpellingsByKeyAndTyposByEditDistance() {
+		JobSkillStore canonical = SkillCanonicalizer.canonicalize(store());
+		StringDictionary skills = canonical.getSkills();
+
+		int node = skills.id("node.js");
+		assertThat(skills.id("nodejs")).isEqualTo(node);
+		assertThat(skills.id("Node JS")).isEqualTo(node);
+		assertThat(SkillCanonicalizer.lookup(skills, "NODE-JS")).isEqualTo(node);
+		assertThat(skills.id("kubernates")).isEqualTo(skills.id("kubernetes"));
+		assertThat(skills.name(skills.id("powerbi"))).isEqualTo("power bi");
+
+		// Short keys, different digits and two common skills are never merged
+		assertThat(skills.id("mssql")).isNotEqualTo(skills.id("mysql"));
+		assertThat(skills.id("python2")).isNotEqualTo(skills.id("python3"));
+		assertThat(skills.size()).isEqualTo(7);
+	}
+
+	@Test
+	void remapsPostingsOntoTheSmallerVocabulary() {
+		JobSkillStore raw = store();
+		JobSkillStore canonical = SkillCanonicalizer.canonicalize(raw);
+
+		assertThat(canonical.size()).isEqualTo(raw.size());
+		assertThat(canonical.getSkills().size()).isLessThan(raw.getSkills().size());
+		// "nodejs, node.js, kubernates" → one node.js, one kubernetes
+		assertThat(canonical.skills(8)).containsExactlyInAnyOrder("node.js", "kubernetes");
+		assertThat(canonical.skills(11)).containsExactly("power bi");
+		assertThat(canonical.skillDocumentFrequencies()[canonical.getSkills().id("node.js")]).isEqualTo(10);
+	}
+
+	@Test
+	void keepsMergeKeysOutOfTheAliases() {
+		JobSkillStore raw = JobSkillStore.builder()
+				.add("software engineer", ".NET, c#")
+				.add("software engineer", ".net")
+				.build();
+		StringDictionary skills = SkillCanonicalizer.canonicalize(raw).getSkills();
+
+		int net = skills.id(".net");
+		assertThat(skills.id(".NET")).isEqualTo(net);
+		// "net" is only the merge key: it still resolves a lookup but is no spelling of its own
+		assertThat(skills.aliases()).doesNotContainKey("net");
+		assertThat(skills.id("net")).isEqualTo(StringDictionary.MISSING);
+		assertThat(skills.lookupKeys()).containsEntry("net", net);
+		assertThat(SkillCanonicalizer.lookup(skills, ".Net")).isEqualTo(net);
+	}
+
+	@Test
+	void boundsEditDistance() {
+		assertThat(SkillCanonicalizer.distance("kubernetes", "kubernates", 2)).isEqualTo(1);
+		assertThat(SkillCanonicalizer.distance("terraform", "terrafrom", 2)).isEqualTo(2);
+		assertThat(SkillCanonicalizer.distance("selenium", "tableau", 2)).isEqualTo(3);
+	}
+}
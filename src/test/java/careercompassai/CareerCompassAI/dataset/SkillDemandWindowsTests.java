@@ -0,0 +1,48 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillDemandWindowsTests {
+
+	private static final int JAVA = 0, RUST = 1, COBOL = 2;
+	private static final int DAY_ZERO = (int) LocalDate.of(2024, 1, 1).toEpochDay();
+
+	@Test
+	void ranksRisingSkillsAgainstTheBaselineRate() {
+		SkillDemandWindows windows = new SkillDemandWindows(60, 26, 2); // grows past 2 skills
+		for (int day = 0; day < 35; day++) {
+			boolean recent = day >= 28;
+			windows.record(DAY_ZERO + day, new int[]{JAVA}, 0, 1);               // flat
+			if (recent) windows.record(DAY_ZERO + day, new int[]{RUST, RUST}, 0, 2);
+			else if (day % 7 == 0) windows.record(DAY_ZERO + day, new int[]{RUST}, 0, 1);
+			if (!recent) windows.record(DAY_ZERO + day, new int[]{COBOL}, 0, 1); // gone quiet
+		}
+
+		assertThat(windows.growth(JAVA, 7, 28).growth()).isEqualTo(0.0);
+		SkillDemandWindows.SkillGrowth rust = windows.growth(RUST, 7, 28);
+		assertThat(rust.recent()).isEqualTo(14);
+		assertThat(rust.baseline()).isEqualTo(4);
+		assertThat(rust.growth()).isEqualTo(13.0);
+
+		assertThat(windows.topMovers(7, 28, 5, 10))
+				.extracting(SkillDemandWindows.SkillGrowth::skillId)
+				.containsExactly(RUST, JAVA);
+	}
+
+	@Test
+	void dropsDaysThatFellOutOfTheRingAndFallsBackToWeeks() {
+		SkillDemandWindows windows = new SkillDemandWindows(14, 8, 4);
+		windows.record(DAY_ZERO, new int[]{JAVA}, 0, 1);
+		windows.record(DAY_ZERO + 20, new int[]{JAVA}, 0, 1);
+		windows.record(DAY_ZERO + 1, new int[]{JAVA}, 0, 1); // older than the daily ring
+
+		assertThat(windows.growth(JAVA, 7, 7).recent()).isEqualTo(1);
+		assertThat(windows.growth(JAVA, 7, 7).baseline()).isZero();
+		// 7 + 28 days do not fit in 14 daily slots: answered from the weekly ring
+		assertThat(windows.growth(JAVA, 7, 28).baseline()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,42 @@
+package careercompassai.CareerCompassAI.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingSketchTests {
+
+	@Test
+	void keepsHeavyHittersWithinErrorBoundOverLongTail() {
+		SpaceSavingSketch sketch = new SpaceSavingSketch(50);
+		Random random = new Random(7);
+		for (int i = 0; i < 20_000; i++) {
+			sketch.offer("tail-" + random.nextInt(5_000));
+			if (i % 4 == 0) sketch.offer("software engineer");
+			if (i % 10 == 0) sketch.offer("data analyst");
+		}
+
+		assertThat(sketch.size()).isEqualTo(50);
+		assertThat(sketch.total()).isEqualTo(20_000 + 5_000 + 2_000);
+		assertThat(sketch.top(2)).extracting(SpaceSavingSketch.HeavyHitter::key)
+				.containsExactly("software engineer", "data analyst");
+
+		SpaceSavingSketch.HeavyHitter top = sketch.top(1).get(0);
+		assertThat(top.count()).isBetween(5_000L, 5_000L + top.error());
+	}
+
+	@Test
+	void countsExactlyBelowCapacity() {
+		SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+		sketch.offer("java", 3);
+		sketch.offer("sql");
+		sketch.offer("java");
+
+		assertThat(sketch.estimate("java")).isEqualTo(4);
+		assertThat(sketch.top(5)).containsExactly(
+				new SpaceSavingSketch.HeavyHitter("java", 4, 0),
+				new SpaceSavingSketch.HeavyHitter("sql", 1, 0));
+	}
+}
@@ -0,0 +1,127 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.model.JobListing;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdzunaJobServiceTests {
+
+	private static final String BODY = """
+			{"results": [{"title": "Cloud Engineer", "company": {"display_name": "Acme"},
+			  "location": {"display_name": "Pune"}, "description": "AWS", "redirect_url": "https://example.com/1"}]}
+			""";
+
+	private final AtomicInteger requests = new AtomicInteger();
+	private volatile int status = 200;
+	private HttpServer stub;
+
+	@BeforeEach
+	void startStub() throws IOException {
+		stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		stub.setExecutor(Executors.newFixedThreadPool(8));
+		stub.createContext("/search", exchange -> {
+			requests.incrementAndGet();
+			try {
+				Thread.sleep(200);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(status, body.length);
+			exchange.getResponseBody().write(body);
+			exchange.close();
+		});
+		stub.start();
+	}
+
+	@AfterEach
+	void stopStub() {
+		stub.stop(0);
+	}
+
+	private AdzunaJobService service(Duration cacheTtl) {
+		return new AdzunaJobService(new SimpleMeterRegistry(),
+				"http://127.0.0.1:" + stub.getAddress().getPort() + "/search", "id", "key",
+				Duration.ofSeconds(2), 6, cacheTtl, Duration.ofHours(1), 100, 2, Duration.ofMinutes(1));
+	}
+
+	@Test
+	void fansOutInParallelAndCachesPerRoleAndLimit() {
+		AdzunaJobService adzuna = service(Duration.ofMinutes(10));
+		List<String> roles = List.of("Data Analyst", "AI Engineer", "Cloud Engineer", "DevOps Engineer");
+
+		long start = System.nanoTime();
+		Map<String, List<JobListing>> jobs = adzuna.fetchJobs(roles, 3);
+		long millis = (System.nanoTime() - start) / 1_000_000;
+
+		assertThat(jobs).containsOnlyKeys(roles);
+		assertThat(jobs.get("AI Engineer")).extracting(JobListing::company).containsExactly("Acme");
+		assertThat(millis).isLessThan(4 * 200);
+
+		adzuna.fetchJobs(roles, 3);
+		assertThat(requests).hasValue(4);
+		adzuna.fetchJobs("ai engineer", 10);
+		assertThat(requests).hasValue(5);
+		adzuna.shutdown();
+	}
+
+	@Test
+	void versionsListingsByTheCacheEntryTheyCameFrom() {
+		AdzunaJobService adzuna = service(Duration.ZERO);
+		List<JobListing> first = adzuna.fetchJobs("Cloud Engineer", 3);
+		String version = adzuna.version("Cloud Engineer", 3, first);
+		assertThat(version).isNotNull().isEqualTo(adzuna.version(" cloud engineer", 3, first));
+		assertThat(adzuna.version("Cloud Engineer", 5, first)).isNull();
+
+		// Stale hit: same listings, same version, then a refresh stores a new one
+		assertThat(adzuna.fetchJobs("Cloud Engineer", 3)).isSameAs(first);
+		sleep(300);
+		List<JobListing> refreshed = adzuna.fetchJobs("Cloud Engineer", 3);
+		assertThat(refreshed).isNotSameAs(first).isEqualTo(first);
+		assertThat(adzuna.version("Cloud Engineer", 3, refreshed)).isNotEqualTo(version);
+		assertThat(adzuna.version("Cloud Engineer", 3, first)).isNull();
+		adzuna.shutdown();
+	}
+
+	@Test
+	void servesStaleWhileRevalidatingAndOpensBreakerOnFailures() {
+		AdzunaJobService adzuna = service(Duration.ZERO);
+		assertThat(adzuna.fetchJobs("Cloud Engineer", 3)).hasSize(1);
+
+		status = 500;
+		// Stale listings come back while background refreshes fail and trip the breaker
+		for (int i = 0; i < 2; i++) {
+			assertThat(adzuna.fetchJobs("Cloud Engineer", 3).get(0).title()).isEqualTo("Cloud Engineer");
+			sleep(300);
+		}
+		assertThat(adzuna.isCircuitOpen()).isTrue();
+
+		int before = requests.get();
+		List<JobListing> mock = adzuna.fetchJobs("Security Analyst", 3);
+		assertThat(mock).hasSize(3).allSatisfy(job -> assertThat(job.link()).isEqualTo("#"));
+		assertThat(requests).hasValue(before);
+		adzuna.shutdown();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
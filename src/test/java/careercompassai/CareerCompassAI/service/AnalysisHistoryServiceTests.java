@@ -0,0 +1,100 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.model.HistoryPage;
+import careercompassai.CareerCompassAI.model.ResumeAnalysis;
+import careercompassai.CareerCompassAI.model.RoleCount;
+import careercompassai.CareerCompassAI.model.SkillCount;
+import careercompassai.CareerCompassAI.repository.AnalysisHistoryRepository;
+import careercompassai.CareerCompassAI.repository.AnalysisHistoryRepository.SkillKind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisHistoryServiceTests {
+
+	private static final String KEY = "a".repeat(64);
+
+	@Test
+	void writesAnalysesInBatchesAndPagesTheAggregates() throws InterruptedException {
+		DataSource dataSource = h2("history-aggregates");
+		new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+		AnalysisHistoryRepository repository = repository(dataSource);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		AnalysisHistoryService history = new AnalysisHistoryService(meterRegistry, repository, true, 100, 3,
+				Duration.ofMillis(50));
+
+		for (int i = 0; i < 4; i++) history.record(key(i), analysis("data analyst", 60 + i, List.of("tableau", "python")));
+		history.record(key(4), analysis("data analyst", 50, List.of("tableau")));
+		history.record(key(5), analysis("software engineer", 40, List.of("docker")));
+		history.record(key(6), analysis("software engineer", 30, List.of(ResumeAnalysisService.NO_SKILLS)));
+		// The same resume uploaded again: recorded, but counted once in the aggregates
+		history.record(key(0), analysis("data analyst", 60, List.of("tableau", "python")));
+		history.shutdown(); // writes out whatever is still queued
+
+		assertThat(meterRegistry.counter("history.written").count()).isEqualTo(8);
+		assertThat(meterRegistry.timer("history.write").count()).isGreaterThanOrEqualTo(3); // batches of at most 3
+
+		HistoryPage<SkillCount> first = history.topSkills(SkillKind.MISSING, null, 0, 2);
+		assertThat(first.items()).containsExactly(new SkillCount("tableau", 5), new SkillCount("python", 4));
+		assertThat(first.hasNext()).isTrue();
+		HistoryPage<SkillCount> second = history.topSkills(SkillKind.MISSING, null, 1, 2);
+		assertThat(second.items()).containsExactly(new SkillCount("docker", 1));
+		assertThat(second.hasNext()).isFalse();
+
+		assertThat(history.topSkills(SkillKind.MISSING, "software engineer", 0, 10).items())
+				.containsExactly(new SkillCount("docker", 1));
+		// The "no skills" placeholder is not recorded as a skill
+		assertThat(history.topSkills(SkillKind.EXTRACTED, null, 0, 10).items())
+				.containsExactly(new SkillCount("sql", 6));
+
+		assertThat(history.topRoles(0, 10).items()).containsExactly(
+				new RoleCount("data analyst", 5, 59.33),
+				new RoleCount("software engineer", 2, 35.0));
+	}
+
+	@Test
+	void countsBatchesThatCannotBeWritten() throws InterruptedException {
+		// No schema: every insert fails
+		AnalysisHistoryRepository repository = repository(h2("history-missing-schema"));
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		AnalysisHistoryService history = new AnalysisHistoryService(meterRegistry, repository, true, 100, 10,
+				Duration.ofMillis(50));
+
+		history.record(KEY, analysis("data analyst", 60, List.of("tableau")));
+		history.record(KEY, analysis("data analyst", 60, List.of("tableau")));
+		history.shutdown();
+
+		assertThat(meterRegistry.counter("history.dropped", "reason", "write_failed").count()).isEqualTo(2);
+		assertThat(meterRegistry.counter("history.written").count()).isZero();
+	}
+
+	private static String key(int resume) {
+		return String.format("%064x", resume);
+	}
+
+	private static ResumeAnalysis analysis(String role, double score, List<String> missing) {
+		List<String> extracted = missing.contains(ResumeAnalysisService.NO_SKILLS) ? missing : List.of("sql", "sql");
+		return new ResumeAnalysis("preview", extracted, Map.of(role, score, "other", score / 2), role, score,
+				List.of("sql"), missing.contains(ResumeAnalysisService.NO_SKILLS) ? List.of() : missing,
+				List.of("aws"), List.of());
+	}
+
+	private static DataSource h2(String name) {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+	}
+
+	private static AnalysisHistoryRepository repository(DataSource dataSource) {
+		return new AnalysisHistoryRepository(new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource));
+	}
+}
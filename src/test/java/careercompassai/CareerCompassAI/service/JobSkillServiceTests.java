@@ -0,0 +1,50 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.dataset.JobSkillStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSkillServiceTests {
+
+	private static final String JOBS = """
+			job_link,last_processed_time,got_summary,got_ner,is_being_worked,job_title,company,job_location,first_seen
+			https://example.com/1,x,t,t,f,Data Analyst,Acme,Pune,2024-01-10
+			https://example.com/2,x,t,t,f,Chef,Acme,Pune,2024-01-10
+			https://example.com/3,x,t,t,f,Software Engineer,Acme,Pune,2024-01-11
+			https://example.com/3,x,t,t,f,Senior Software Engineer,Acme,Pune,2024-01-12
+			""";
+
+	private static final String SKILLS = """
+			job_link,job_skills
+			https://example.com/1,"SQL, Excel"
+			https://example.com/2,cooking
+			https://example.com/1,"SQL, Tableau"
+			https://example.com/3,Java
+			""";
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void duplicateLinksKeepTheirLastRow() throws IOException {
+		Path jobs = Files.writeString(dir.resolve("jobs.csv"), JOBS, StandardCharsets.UTF_8);
+		Path skills = Files.writeString(dir.resolve("skills.csv"), SKILLS, StandardCharsets.UTF_8);
+
+		JobSkillStore store = JobSkillService.parseCsvDataset(jobs, skills);
+
+		assertThat(store.size()).isEqualTo(2); // one posting per link; the chef is not a tech title
+		assertThat(store.link(0)).isEqualTo("https://example.com/1");
+		assertThat(store.skills(0)).containsExactlyInAnyOrder("sql", "tableau");
+		assertThat(store.role(1)).isEqualTo("senior software engineer");
+		assertThat(store.postedDay(1)).isEqualTo((int) LocalDate.of(2024, 1, 12).toEpochDay());
+		assertThat(store.skills(1)).containsExactly("java");
+	}
+}
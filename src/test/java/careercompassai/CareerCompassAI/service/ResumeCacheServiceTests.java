@@ -0,0 +1,55 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.model.ExtractedResume;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResumeCacheServiceTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private static ExtractedResume resume(String text) {
+		return new ExtractedResume(text, List.of("java"));
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedAndCountsHits() {
+		ResumeCacheService cache = new ResumeCacheService(registry, 2, 1_000, Duration.ofHours(1));
+		String a = ResumeCacheService.key("a".getBytes());
+		String b = ResumeCacheService.key("b".getBytes());
+		String c = ResumeCacheService.key("c".getBytes());
+
+		cache.put(a, resume("a"));
+		cache.put(b, resume("b"));
+		assertThat(cache.get(a)).isNotNull(); // a is now more recent than b
+		cache.put(c, resume("c"));
+
+		assertThat(cache.get(b)).isNull();
+		assertThat(cache.get(a).text()).isEqualTo("a");
+		assertThat(cache.get(c).text()).isEqualTo("c");
+		assertThat(registry.counter("resume.cache.requests", "result", "hit").count()).isEqualTo(3);
+		assertThat(registry.counter("resume.cache.requests", "result", "miss").count()).isEqualTo(1);
+	}
+
+	@Test
+	void boundsTotalCharsExpiresAndClearsOnReload() {
+		ResumeCacheService cache = new ResumeCacheService(registry, 10, 10, Duration.ofHours(1));
+		cache.put("x", resume("123456"));
+		cache.put("y", resume("123456"));
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get("y")).isNotNull();
+
+		cache.onDatasetReloaded(new JobDatasetReloadedEvent(0, Instant.now()));
+		assertThat(cache.size()).isZero();
+
+		ResumeCacheService expiring = new ResumeCacheService(registry, 10, 10, Duration.ZERO);
+		expiring.put("z", resume("z"));
+		assertThat(expiring.get("z")).isNull();
+	}
+}
@@ -0,0 +1,183 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.controller.ResumePipelineController;
+import careercompassai.CareerCompassAI.model.ExtractedResume;
+import careercompassai.CareerCompassAI.model.ResumeAnalysis;
+import careercompassai.CareerCompassAI.service.ResumePipelineService.PipelineBusyException;
+import careercompassai.CareerCompassAI.service.ResumePipelineService.PipelineJob;
+import careercompassai.CareerCompassAI.service.ResumePipelineService.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumePipelineServiceTests {
+
+	private static final byte[] RESUME = "Java developer".getBytes(StandardCharsets.UTF_8);
+
+	private final StubAnalysis analysis = new StubAnalysis();
+	private final ResumeCacheService cache = new ResumeCacheService(new SimpleMeterRegistry(), 16, 1_000_000,
+			Duration.ofHours(1));
+	private ResumePipelineService pipeline;
+
+	@AfterEach
+	void shutdown() {
+		analysis.release.countDown();
+		if (pipeline != null) pipeline.shutdown();
+	}
+
+	private ResumePipelineService pipeline(int maxInFlight, Duration parseTimeout) {
+		AnalysisHistoryService history = new AnalysisHistoryService(new SimpleMeterRegistry(), null, false, 10, 10,
+				Duration.ofMillis(50));
+		pipeline = new ResumePipelineService(analysis, cache, history, maxInFlight, 1, 1, 1, 1,
+				parseTimeout, Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofMinutes(10));
+		return pipeline;
+	}
+
+	@Test
+	void rejectsSubmissionsBeyondCapacityWith503() {
+		ResumePipelineService pipeline = pipeline(1, Duration.ofSeconds(5));
+		pipeline.submit(RESUME); // parks in the parse stage
+
+		assertThatThrownBy(() -> pipeline.submit(RESUME)).isInstanceOf(PipelineBusyException.class);
+
+		PipelineBusyException busy = new PipelineBusyException("full");
+		ResponseEntity<Map<String, String>> response = new ResumePipelineController().busy(busy);
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+	}
+
+	@Test
+	void timedOutParseKeepsItsSlotUntilTheWorkerReturns() {
+		ResumePipelineService pipeline = pipeline(1, Duration.ofMillis(100));
+		PipelineJob job = pipeline.submit(RESUME);
+
+		await(() -> job.getStage() == Stage.FAILED);
+		assertThat(job.getError()).isEqualTo("Timed out while parsing");
+		// The parser ignores the interrupt and is still running: the slot is not free yet
+		assertThatThrownBy(() -> pipeline.submit(RESUME)).isInstanceOf(PipelineBusyException.class);
+
+		analysis.release.countDown();
+		await(() -> {
+			try {
+				pipeline.submit("other".getBytes(StandardCharsets.UTF_8));
+				return true;
+			} catch (PipelineBusyException e) {
+				return false;
+			}
+		});
+	}
+
+	@Test
+	void cachedResumeSkipsParsing() {
+		ResumePipelineService pipeline = pipeline(4, Duration.ofSeconds(5));
+		cache.put(ResumeCacheService.key(RESUME), new ExtractedResume("Java developer", List.of("java")));
+		List<Stage> stages = new CopyOnWriteArrayList<>();
+
+		PipelineJob job = pipeline.submit(RESUME);
+		job.onUpdate(updated -> stages.add(updated.getStage()));
+		await(job::isFinished);
+
+		assertThat(job.getStage()).isEqualTo(Stage.DONE);
+		assertThat(job.getResult().extractedSkills()).containsExactly("java");
+		assertThat(analysis.parses).hasValue(0);
+		assertThat(stages).doesNotContain(Stage.PARSING, Stage.EXTRACTING);
+	}
+
+	@Test
+	void listenersHearNothingAfterTheJobFinishes() throws InterruptedException {
+		ResumePipelineService pipeline = pipeline(4, Duration.ofSeconds(5));
+		List<Stage> stages = new CopyOnWriteArrayList<>();
+
+		PipelineJob job = pipeline.submit(RESUME);
+		job.onUpdate(updated -> stages.add(updated.getStage()));
+		analysis.release.countDown();
+		await(() -> stages.contains(Stage.DONE));
+		Thread.sleep(100);
+
+		assertThat(stages).endsWith(Stage.DONE).containsOnlyOnce(Stage.DONE);
+		// A late subscriber gets the final state exactly once
+		List<Stage> late = new CopyOnWriteArrayList<>();
+		job.onUpdate(updated -> late.add(updated.getStage()));
+		await(() -> !late.isEmpty());
+		Thread.sleep(100);
+		assertThat(late).containsExactly(Stage.DONE);
+	}
+
+	@Test
+	void failedCacheLookupGivesItsSlotBack() {
+		ResumePipelineService pipeline = pipeline(1, Duration.ofSeconds(5));
+
+		assertThatThrownBy(() -> pipeline.submit(null)).isInstanceOf(NullPointerException.class);
+		analysis.release.countDown();
+		assertThat(pipeline.submit(RESUME)).isNotNull();
+	}
+
+	private static void await(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Parsing blocks until released, ignoring interrupts as Tika sometimes does.
+	 */
+	private static final class StubAnalysis extends ResumeAnalysisService {
+
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger parses = new AtomicInteger();
+
+		StubAnalysis() {
+			super(new SimpleMeterRegistry(), null, null, null, null, null, null, DataSize.ofMegabytes(1), 5);
+		}
+
+		@Override
+		public String parseInline(InputStream resume) {
+			parses.incrementAndGet();
+			boolean interrupted = false;
+			while (release.getCount() > 0) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) Thread.currentThread().interrupt();
+			return "Java developer";
+		}
+
+		@Override
+		public List<String> extractSkills(String resumeText) {
+			return List.of("java");
+		}
+
+		@Override
+		public ResumeAnalysis score(String resumeText, List<String> extractedSkills) {
+			return new ResumeAnalysis(resumeText, extractedSkills, Map.of("software engineer", 80.0),
+					"software engineer", 80.0, extractedSkills, List.of(), List.of(), List.of());
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package careercompassai.CareerCompassAI.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumeUploadStreamTests {
+
+	@Test
+	void sniffsDocumentsAndRejectsBinaries() {
+		assertThat(ResumeUploadStream.sniff("%PDF-1.7\n".getBytes())).isEqualTo("application/pdf");
+		assertThat(ResumeUploadStream.sniff(new byte[]{'P', 'K', 3, 4, 20, 0})).isEqualTo("application/zip");
+		assertThat(ResumeUploadStream.sniff("{\\rtf1\\ansi".getBytes())).isEqualTo("application/rtf");
+		assertThat(ResumeUploadStream.sniff("Jane Doe\r\n\tJava, SQL — Café".getBytes(StandardCharsets.UTF_8)))
+				.isEqualTo("text/plain");
+
+		assertThat(ResumeUploadStream.sniff(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})).isNull();
+		assertThat(ResumeUploadStream.sniff(new byte[]{'M', 'Z', (byte) 0x90, 0, 3, 0})).isNull();
+	}
+
+	@Test
+	void hashesTheWholeUploadEvenWhenOnlyPartlyRead() throws Exception {
+		byte[] resume = ("Jane Doe\n" + "Java developer with Spring and SQL.\n".repeat(500)).getBytes();
+		ResumeUploadStream upload = ResumeUploadStream.open(new ByteArrayInputStream(resume), 1 << 20);
+
+		byte[] head = upload.readNBytes(100);
+		upload.close();
+
+		assertThat(head).isEqualTo(Arrays.copyOf(resume, 100));
+		assertThat(upload.mimeType()).isEqualTo("text/plain");
+		assertThat(upload.bytesRead()).isEqualTo(resume.length);
+		assertThat(upload.key()).isEqualTo(ResumeCacheService.key(resume));
+	}
+
+	@Test
+	void rejectsEmptyUnsupportedAndOversizedUploads() throws Exception {
+		assertThatThrownBy(() -> ResumeUploadStream.open(new ByteArrayInputStream(new byte[0]), 100))
+				.isInstanceOfSatisfying(ResumeUploadStream.RejectedException.class,
+						e -> assertThat(e.reason()).isEqualTo(ResumeUploadStream.RejectedException.Reason.EMPTY));
+		assertThatThrownBy(() -> ResumeUploadStream.open(new ByteArrayInputStream(new byte[]{0, 1, 2, 3}), 100))
+				.isInstanceOfSatisfying(ResumeUploadStream.RejectedException.class,
+						e -> assertThat(e.reason()).isEqualTo(ResumeUploadStream.RejectedException.Reason.UNSUPPORTED_TYPE));
+
+		ResumeUploadStream upload = ResumeUploadStream.open(new ByteArrayInputStream("a".repeat(1_000).getBytes()), 100);
+		assertThatThrownBy(upload::readAllBytes)
+				.isInstanceOfSatisfying(ResumeUploadStream.RejectedException.class,
+						e -> assertThat(e.reason()).isEqualTo(ResumeUploadStream.RejectedException.Reason.TOO_LARGE));
+		upload.close(); // does not drain past the limit
+		assertThat(upload.bytesRead()).isLessThanOrEqualTo(100 + 8_192);
+	}
+}
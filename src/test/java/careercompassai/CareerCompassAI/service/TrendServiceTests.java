@@ -0,0 +1,106 @@
+package careercompassai.CareerCompassAI.service;
+
+import careercompassai.CareerCompassAI.dataset.JobSkillStore;
+import careercompassai.CareerCompassAI.dataset.SpaceSavingSketch.HeavyHitter;
+import careercompassai.CareerCompassAI.model.SkillTrend;
+import careercompassai.CareerCompassAI.service.TrendService.TrendSnapshot;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendServiceTests {
+
+	private static final int DAY = (int) LocalDate.of(2024, 1, 10).toEpochDay();
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private static JobSkillStore.Builder postings() {
+		return JobSkillStore.builder()
+				.add("data analyst", "sql, excel", DAY, "https://example.com/jobs/1")
+				.add("data analyst", "sql, tableau", DAY, "https://example.com/jobs/2")
+				.add("software engineer", "java, sql", DAY, "https://example.com/jobs/3");
+	}
+
+	@Test
+	void publishesSerializedSnapshotsWithAnETag() throws IOException {
+		TrendService trends = new TrendService(null, objectMapper);
+		trends.rebuild(postings().build());
+
+		TrendSnapshot snapshot = trends.snapshot();
+		assertThat(snapshot.postings()).isEqualTo(3);
+		assertThat(snapshot.topTitles()).first().isEqualTo(new HeavyHitter("data analyst", 2, 0));
+		assertThat(snapshot.topSkills()).first().isEqualTo(new HeavyHitter("sql", 3, 0));
+		assertThat(titles(snapshot)).containsExactly(Map.entry("data analyst", 2L), Map.entry("software engineer", 1L));
+		assertThat(objectMapper.readTree(snapshot.json()).get("postings").asLong()).isEqualTo(3);
+		assertThat(snapshot.etag()).startsWith("\"").endsWith("\"").isNotEqualTo(snapshot.titlesEtag());
+
+		// Nothing recorded since: the same snapshot, bytes and ETag
+		assertThat(trends.snapshot()).isSameAs(snapshot);
+	}
+
+	@Test
+	void recordedPostingsUpdateTheAggregates() throws IOException {
+		TrendService trends = new TrendService(null, objectMapper);
+		trends.rebuild(postings().build());
+		TrendSnapshot before = trends.snapshot();
+
+		trends.recordPosting(" Software Engineer", List.of("Java", "Docker", "java"), LocalDate.ofEpochDay(DAY));
+
+		TrendSnapshot after = trends.snapshot();
+		assertThat(after.version()).isGreaterThan(before.version());
+		assertThat(after.postings()).isEqualTo(4);
+		assertThat(titles(after)).containsEntry("software engineer", 2L);
+		assertThat(after.topSkills()).contains(new HeavyHitter("java", 2, 0), new HeavyHitter("docker", 1, 0));
+		assertThat(after.titlesEtag()).isNotEqualTo(before.titlesEtag());
+		assertThat(trends.skillTrend("docker", 7, 28).recentMentions()).isEqualTo(1);
+	}
+
+	@Test
+	void precomputesTheDefaultRisingSkills() {
+		JobSkillStore.Builder builder = JobSkillStore.builder();
+		for (int i = 0; i < 6; i++) builder.add("cloud engineer", "docker, aws", DAY, "https://example.com/cloud/" + i);
+		builder.add("cloud engineer", "aws", DAY - 20, "https://example.com/cloud/old");
+		TrendService trends = new TrendService(null, objectMapper);
+		trends.rebuild(builder.build());
+
+		List<SkillTrend> rising = trends.snapshot().risingSkills();
+		assertThat(rising).extracting(SkillTrend::skill).containsExactly("aws", "docker"); // aws grew from a baseline of 1
+		assertThat(trends.risingSkills(TrendService.RECENT_DAYS, TrendService.BASELINE_DAYS, 1))
+				.containsExactly(rising.get(0));
+		// Other windows are still ranked on demand
+		assertThat(trends.risingSkills(3, 30, 5)).extracting(SkillTrend::skill).contains("docker");
+	}
+
+	@Test
+	void reloadsRecordOnlyTheAddedPostings() throws IOException {
+		TrendService trends = new TrendService(null, objectMapper);
+		trends.rebuild(postings().build());
+		long version = trends.snapshot().version();
+
+		trends.update(postings().add("data analyst", "python", DAY + 1, "https://example.com/jobs/4").build());
+
+		TrendSnapshot updated = trends.snapshot();
+		assertThat(updated.version()).isEqualTo(version + 1); // one recordPosting, no recount
+		assertThat(updated.postings()).isEqualTo(4);
+		assertThat(titles(updated)).containsEntry("data analyst", 3L);
+		assertThat(trends.latestPostingDay()).isEqualTo(LocalDate.ofEpochDay(DAY + 1));
+
+		// A dataset that dropped a posting is recounted from scratch
+		trends.update(JobSkillStore.builder().add("software engineer", "java", DAY, "https://example.com/jobs/3").build());
+		assertThat(trends.snapshot().postings()).isEqualTo(1);
+		assertThat(titles(trends.snapshot())).containsExactly(Map.entry("software engineer", 1L));
+	}
+
+	private Map<String, Long> titles(TrendSnapshot snapshot) throws IOException {
+		return objectMapper.readValue(snapshot.titlesJson(), new TypeReference<LinkedHashMap<String, Long>>() {
+		});
+	}
+}